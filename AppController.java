@@ -12,20 +12,19 @@ import java.util.Scanner;
  * @version 1.0
  */
 public class AppController {
-    private final Scanner scanner;
-    private final UsuarioService usuarioService;
+    private Scanner scanner;
+    private UsuarioService usuarioService;
     private boolean sistemaRodando;
     
-    // Constantes para o menu
-    private static final String DIVISOR = "=".repeat(35);
-    private static final String LINHA = "─".repeat(35);
+    // Constantes para o menu (literais, para não custar nada na inicialização)
+    private static final String DIVISOR = "===================================";
+    private static final String LINHA = "───────────────────────────────────";
     
     /**
      * Construtor da classe AppController
+     * Scanner e serviço são criados sob demanda, no primeiro uso
      */
     public AppController() {
-        this.scanner = new Scanner(System.in);
-        this.usuarioService = new UsuarioService();
         this.sistemaRodando = true;
     }
     
@@ -89,7 +88,7 @@ public class AppController {
                 System.out.print("📧 Digite seu email: ");
                 String email = lerEntrada();
                 
-                if (usuarioService.loginOuCriarUsuario(nome, email)) {
+                if (getUsuarioService().loginOuCriarUsuario(nome, email)) {
                     return true;
                 }
                 
@@ -160,7 +159,7 @@ public class AppController {
                     System.out.println("❌ Opção inválida! Digite um número de 1 a 7.");
             }
             
-            if (sistemaRodando && usuarioService.temUsuarioLogado()) {
+            if (sistemaRodando && getUsuarioService().temUsuarioLogado()) {
                 pausarExecucao();
             }
             
@@ -174,7 +173,7 @@ public class AppController {
      * Consulta o saldo do usuário
      */
     private void consultarSaldo() {
-        usuarioService.exibirSaldo();
+        getUsuarioService().exibirSaldo();
     }
     
     /**
@@ -203,7 +202,7 @@ public class AppController {
             
             String destinoCompleto = destino + (descricao.isEmpty() ? "" : " - " + descricao);
             
-            usuarioService.realizarTransferencia(valor, destinoCompleto);
+            getUsuarioService().realizarTransferencia(valor, destinoCompleto);
             
         } catch (Exception e) {
             System.out.println("❌ Erro durante a transferência: " + e.getMessage());
@@ -236,7 +235,7 @@ public class AppController {
             
             String origemCompleta = origem + (descricao.isEmpty() ? "" : " - " + descricao);
             
-            usuarioService.receberDinheiro(valor, origemCompleta);
+            getUsuarioService().receberDinheiro(valor, origemCompleta);
             
         } catch (Exception e) {
             System.out.println("❌ Erro ao receber dinheiro: " + e.getMessage());
@@ -247,7 +246,7 @@ public class AppController {
      * Exibe histórico de transações
      */
     private void exibirHistorico() {
-        usuarioService.exibirHistoricoTransacoes();
+        getUsuarioService().exibirHistoricoTransacoes();
     }
     
     /**
@@ -257,8 +256,8 @@ public class AppController {
         System.out.println("\n👤 MEUS DADOS");
         System.out.println(LINHA);
         
-        if (usuarioService.temUsuarioLogado()) {
-            System.out.println(usuarioService.getUsuarioAtual().toString());
+        if (getUsuarioService().temUsuarioLogado()) {
+            System.out.println(getUsuarioService().getUsuarioAtual().toString());
         } else {
             System.out.println("❌ Nenhum usuário logado!");
         }
@@ -269,7 +268,7 @@ public class AppController {
      */
     private void realizarLogout() {
         System.out.println("\n🔄 FAZENDO LOGOUT...");
-        usuarioService.logout();
+        getUsuarioService().logout();
         
         System.out.println("\n🔐 Deseja fazer login com outro usuário?");
         System.out.print("💭 Digite 's' para sim ou qualquer tecla para sair: ");
@@ -285,13 +284,35 @@ public class AppController {
         }
     }
     
+    /**
+     * Obtém o scanner da entrada padrão, criando-o no primeiro uso
+     * @return Scanner de System.in
+     */
+    private Scanner getScanner() {
+        if (scanner == null) {
+            scanner = new Scanner(System.in);
+        }
+        return scanner;
+    }
+    
+    /**
+     * Obtém o serviço de usuários, criando-o no primeiro uso
+     * @return Serviço de usuários
+     */
+    private UsuarioService getUsuarioService() {
+        if (usuarioService == null) {
+            usuarioService = new UsuarioService();
+        }
+        return usuarioService;
+    }
+    
     /**
      * Lê entrada do usuário com tratamento de erros
      * @return String digitada pelo usuário
      */
     private String lerEntrada() {
         try {
-            return scanner.nextLine().trim();
+            return getScanner().nextLine().trim();
         } catch (Exception e) {
             System.out.println("❌ Erro ao ler entrada: " + e.getMessage());
             return "";
@@ -312,7 +333,7 @@ public class AppController {
     private void pausarExecucao(String mensagem) {
         System.out.println("\n" + mensagem);
         try {
-            scanner.nextLine();
+            getScanner().nextLine();
         } catch (Exception e) {
             // Ignora erros de entrada
         }
@@ -330,6 +351,8 @@ public class AppController {
         System.out.println("👋 Até a próxima!");
         System.out.println(DIVISOR);
         
+        if (scanner == null) return;
+        
         try {
             scanner.close();
         } catch (Exception e) {
@@ -0,0 +1,19 @@
+package fintrack.event;
+
+/**
+ * Consumidor de eventos de saldo (notificações, análises, auditoria etc.)
+ *
+ * @author Arthur Oliveira Silva
+ * @version 1.0
+ */
+public interface AssinanteSaldo {
+
+    /**
+     * Trata um evento de saldo
+     * O evento é reutilizado pelo barramento e não deve ser guardado após o retorno
+     * @param evento Evento publicado
+     * @param sequencia Sequência do evento no barramento
+     * @param fimDoLote true se este é o último evento disponível no lote atual
+     */
+    void aoReceber(EventoSaldo evento, long sequencia, boolean fimDoLote);
+}
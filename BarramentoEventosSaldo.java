@@ -0,0 +1,297 @@
+package fintrack.event;
+
+import fintrack.model.Moeda;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Barramento de eventos de saldo baseado em buffer circular (estilo Disruptor)
+ * Os eventos são pré-alocados e reutilizados, portanto publicar não aloca memória.
+ * Cada assinante roda em sua própria thread, com sequência própria, e consome os
+ * eventos em lotes. Quando o buffer enche, quem publica aguarda o assinante mais
+ * lento (backpressure); assinantes que seguram o buffer por muito tempo são
+ * sinalizados como lentos. Um assinante cuja thread termina (encerramento ou
+ * erro) deixa de segurar o buffer, para nunca travar quem publica
+ *
+ * @author Arthur Oliveira Silva
+ * @version 1.0
+ */
+public class BarramentoEventosSaldo {
+
+    private static final int CAPACIDADE_PADRAO = 4096;
+    private static final int TAMANHO_MAXIMO_LOTE = 256;
+    private static final long ESPERA_NANOS = 1_000;
+    private static final long LIMITE_LENTIDAO_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final EventoSaldo[] eventos;
+    private final AtomicLongArray publicados;
+    private final int mascara;
+    private final AtomicLong proximaSequencia;
+    private final AtomicLong esperasPorBackpressure;
+    private final List<ProcessadorAssinante> processadores;
+    private volatile ProcessadorAssinante[] processadoresAtivos;
+    private volatile boolean rodando;
+    private volatile boolean encerrado;
+
+    /**
+     * Construtor da classe BarramentoEventosSaldo
+     */
+    public BarramentoEventosSaldo() {
+        this(CAPACIDADE_PADRAO);
+    }
+
+    /**
+     * Construtor da classe BarramentoEventosSaldo com capacidade customizada
+     * @param capacidade Tamanho do buffer (deve ser potência de dois)
+     */
+    public BarramentoEventosSaldo(int capacidade) {
+        if (capacidade <= 0 || Integer.bitCount(capacidade) != 1) {
+            throw new IllegalArgumentException("Capacidade deve ser uma potência de dois");
+        }
+        this.eventos = new EventoSaldo[capacidade];
+        for (int i = 0; i < capacidade; i++) {
+            eventos[i] = new EventoSaldo();
+        }
+        this.publicados = new AtomicLongArray(capacidade);
+        for (int i = 0; i < capacidade; i++) {
+            publicados.set(i, -1);
+        }
+        this.mascara = capacidade - 1;
+        this.proximaSequencia = new AtomicLong();
+        this.esperasPorBackpressure = new AtomicLong();
+        this.processadores = new ArrayList<>();
+        this.processadoresAtivos = new ProcessadorAssinante[0];
+    }
+
+    /**
+     * Registra um assinante; deve ser chamado antes de {@link #iniciar()}
+     * @param nome Nome do assinante (usado na thread e nos alertas)
+     * @param assinante Assinante a ser registrado
+     */
+    public synchronized void registrar(String nome, AssinanteSaldo assinante) {
+        if (rodando) {
+            throw new IllegalStateException("Não é possível registrar assinantes com o barramento em execução");
+        }
+        processadores.add(new ProcessadorAssinante(nome, assinante));
+    }
+
+    /**
+     * Inicia as threads dos assinantes
+     */
+    public synchronized void iniciar() {
+        if (encerrado) {
+            throw new IllegalStateException("Barramento encerrado não pode ser reiniciado");
+        }
+        if (rodando) return;
+        rodando = true;
+        processadoresAtivos = processadores.toArray(new ProcessadorAssinante[0]);
+        for (ProcessadorAssinante processador : processadoresAtivos) {
+            processador.sequencia.set(proximaSequencia.get() - 1);
+            Thread thread = new Thread(processador, "fintrack-eventos-" + processador.nome);
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    /**
+     * Encerra as threads dos assinantes após consumirem os eventos já publicados
+     * A partir daqui as publicações são descartadas sem aguardar nenhum assinante
+     */
+    public synchronized void encerrar() {
+        encerrado = true;
+        rodando = false;
+        processadoresAtivos = new ProcessadorAssinante[0];
+    }
+
+    /**
+     * Publica uma alteração de saldo
+     * Após {@link #encerrar()} o evento é descartado
+     * @param tipo Tipo da alteração
+     * @param email Email da conta
+     * @param moeda Moeda do saldo alterado
+     * @param valor Valor movimentado, na moeda do saldo
+     * @param saldoResultante Saldo após a operação, na moeda do saldo
+     * @param contraparte Origem ou destino da operação
+     */
+    public void publicar(EventoSaldo.Tipo tipo, String email, Moeda moeda, double valor, double saldoResultante,
+                         String contraparte) {
+        publicar(reservarSequencia(), tipo, email, moeda, valor, saldoResultante, contraparte);
+    }
+
+    /**
+     * Reserva a posição do próximo evento sem aguardar espaço no buffer
+     * Permite fixar a ordem dos eventos enquanto se segura outro lock (ex.: o da conta)
+     * e publicar depois de liberá-lo. Toda sequência reservada deve ser publicada,
+     * pois os assinantes consomem em ordem e aguardam por ela
+     * @return Sequência reservada, ou -1 se o barramento foi encerrado
+     */
+    public long reservarSequencia() {
+        return encerrado ? -1 : proximaSequencia.getAndIncrement();
+    }
+
+    /**
+     * Publica uma alteração de saldo na sequência reservada por {@link #reservarSequencia()}
+     * @param sequencia Sequência reservada (-1 descarta o evento)
+     * @param tipo Tipo da alteração
+     * @param email Email da conta
+     * @param moeda Moeda do saldo alterado
+     * @param valor Valor movimentado, na moeda do saldo
+     * @param saldoResultante Saldo após a operação, na moeda do saldo
+     * @param contraparte Origem ou destino da operação
+     */
+    public void publicar(long sequencia, EventoSaldo.Tipo tipo, String email, Moeda moeda, double valor,
+                         double saldoResultante, String contraparte) {
+        if (sequencia < 0 || !aguardarEspacoLivre(sequencia)) return;
+
+        int indice = (int) sequencia & mascara;
+        eventos[indice].preencher(tipo, email, moeda, valor, saldoResultante, contraparte, System.currentTimeMillis());
+        publicados.lazySet(indice, sequencia);
+    }
+
+    /**
+     * Obtém quantos eventos o assinante ainda não consumiu
+     * @param nome Nome do assinante
+     * @return Atraso em eventos, ou -1 se o assinante não existir
+     */
+    public long getAtraso(String nome) {
+        for (ProcessadorAssinante processador : processadoresAtivos) {
+            if (processador.nome.equals(nome)) {
+                return proximaSequencia.get() - 1 - processador.sequencia.get();
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Obtém quantas vezes uma publicação precisou aguardar assinantes
+     * @return Número de esperas por backpressure
+     */
+    public long getEsperasPorBackpressure() {
+        return esperasPorBackpressure.get();
+    }
+
+    public int getCapacidade() {
+        return eventos.length;
+    }
+
+    // ===== MÉTODOS PRIVADOS =====
+
+    /**
+     * Aguarda até que o assinante mais lento libere a posição da sequência no buffer
+     * @param sequencia Sequência a ser publicada
+     * @return true se a posição foi liberada, false se o barramento foi encerrado durante a espera
+     */
+    private boolean aguardarEspacoLivre(long sequencia) {
+        long limite = sequencia - eventos.length;
+        if (limite < sequenciaMinimaAssinantes()) return true;
+
+        esperasPorBackpressure.incrementAndGet();
+        long inicioEspera = System.nanoTime();
+        while (limite >= sequenciaMinimaAssinantes()) {
+            if (encerrado) return false;
+            LockSupport.parkNanos(ESPERA_NANOS);
+            if (System.nanoTime() - inicioEspera > LIMITE_LENTIDAO_NANOS) {
+                sinalizarAssinanteLento(limite);
+                inicioEspera = System.nanoTime();
+            }
+        }
+        return true;
+    }
+
+    private long sequenciaMinimaAssinantes() {
+        long minima = Long.MAX_VALUE;
+        for (ProcessadorAssinante processador : processadoresAtivos) {
+            minima = Math.min(minima, processador.sequencia.get());
+        }
+        return minima;
+    }
+
+    /**
+     * Retira um assinante cuja thread terminou do controle de backpressure
+     * @param processador Processador encerrado
+     */
+    private synchronized void removerAtivo(ProcessadorAssinante processador) {
+        List<ProcessadorAssinante> restantes = new ArrayList<>(List.of(processadoresAtivos));
+        if (restantes.remove(processador)) {
+            processadoresAtivos = restantes.toArray(new ProcessadorAssinante[0]);
+        }
+    }
+
+    private void sinalizarAssinanteLento(long limite) {
+        for (ProcessadorAssinante processador : processadoresAtivos) {
+            if (processador.sequencia.get() <= limite && !processador.lento) {
+                processador.lento = true;
+                System.out.println("⚠️  Assinante lento no barramento de eventos: " + processador.nome
+                                   + " (atraso: " + getAtraso(processador.nome) + " eventos)");
+            }
+        }
+    }
+
+    /**
+     * Laço de consumo de um assinante
+     */
+    private class ProcessadorAssinante implements Runnable {
+        private final String nome;
+        private final AssinanteSaldo assinante;
+        private final AtomicLong sequencia;
+        private volatile boolean lento;
+
+        ProcessadorAssinante(String nome, AssinanteSaldo assinante) {
+            this.nome = nome;
+            this.assinante = assinante;
+            this.sequencia = new AtomicLong(-1);
+        }
+
+        @Override
+        public void run() {
+            try {
+                consumir();
+            } catch (Error e) {
+                System.out.println("❌ Assinante " + nome + " interrompido por erro: " + e);
+                throw e;
+            } finally {
+                removerAtivo(this);
+            }
+        }
+
+        private void consumir() {
+            long proxima = sequencia.get() + 1;
+            while (true) {
+                long disponivel = ultimaSequenciaDisponivel(proxima);
+                if (disponivel < proxima) {
+                    // Encerrado: os eventos já publicados foram consumidos
+                    if (!rodando) return;
+                    LockSupport.parkNanos(ESPERA_NANOS);
+                    continue;
+                }
+
+                for (long atual = proxima; atual <= disponivel; atual++) {
+                    try {
+                        assinante.aoReceber(eventos[(int) atual & mascara], atual, atual == disponivel);
+                    } catch (RuntimeException e) {
+                        System.out.println("❌ Erro no assinante " + nome + ": " + e.getMessage());
+                    }
+                }
+                sequencia.lazySet(disponivel);
+                lento = false;
+                proxima = disponivel + 1;
+            }
+        }
+
+        /**
+         * Última sequência contígua já publicada, limitada ao tamanho máximo do lote
+         */
+        private long ultimaSequenciaDisponivel(long proxima) {
+            long atual = proxima;
+            long limite = proxima + TAMANHO_MAXIMO_LOTE;
+            while (atual < limite && publicados.get((int) atual & mascara) == atual) {
+                atual++;
+            }
+            return atual - 1;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package fintrack.benchmark;
+
+import fintrack.service.UsuarioService;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Mede o tempo entre o início da JVM e a conclusão da primeira operação
+ * (login seguido de consulta de saldo), como em uma execução curta por script
+ * Mede apenas a camada de serviço, sem o AppController; o caminho completo de
+ * fintrack.Main até o primeiro comando é medido pelo script abaixo
+ *
+ * Uso: java fintrack.benchmark.BenchmarkInicializacao
+ * Veja scripts/startup-cds.sh para a comparação com e sem arquivo AppCDS
+ *
+ * @author Arthur Oliveira Silva
+ * @version 1.0
+ */
+public class BenchmarkInicializacao {
+
+    public static void main(String[] args) {
+        long inicioMain = System.nanoTime();
+        PrintStream saidaOriginal = System.out;
+
+        // A saída do serviço não faz parte da medição
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        try {
+            UsuarioService service = new UsuarioService();
+            service.loginOuCriarUsuario("Cliente Script", "cliente@script.fintrack.com");
+            service.exibirSaldo();
+        } finally {
+            System.setOut(saidaOriginal);
+        }
+
+        long fimPrimeiraOperacao = System.nanoTime();
+        long primeiraOperacaoMs = (fimPrimeiraOperacao - inicioMain) / 1_000_000;
+
+        // O MXBean só é carregado depois da medição; o tempo gasto com ele é descontado
+        long uptimeMs = ManagementFactory.getRuntimeMXBean().getUptime();
+        long desdeInicioJvmMs = uptimeMs - (System.nanoTime() - fimPrimeiraOperacao) / 1_000_000;
+
+        System.out.println("⏱️  main() até a primeira operação: " + primeiraOperacaoMs + " ms");
+        System.out.println("⏱️  Início da JVM até a primeira operação: " + desdeInicioJvmMs + " ms");
+    }
+}
@@ -0,0 +1,82 @@
+package fintrack.event;
+
+import fintrack.model.Moeda;
+
+/**
+ * Evento de alteração de saldo publicado no {@link BarramentoEventosSaldo}
+ * As instâncias são pré-alocadas no buffer circular e reutilizadas;
+ * assinantes devem copiar os dados que precisarem guardar após o retorno
+ *
+ * @author Arthur Oliveira Silva
+ * @version 1.0
+ */
+public class EventoSaldo {
+
+    /**
+     * Tipos de alteração de saldo
+     */
+    public enum Tipo {
+        DEBITO, CREDITO
+    }
+
+    private Tipo tipo;
+    private String email;
+    private Moeda moeda;
+    private double valor;
+    private double saldoResultante;
+    private String contraparte;
+    private long timestampMillis;
+
+    /**
+     * Preenche o evento reaproveitando a instância do buffer
+     */
+    void preencher(Tipo tipo, String email, Moeda moeda, double valor, double saldoResultante,
+                   String contraparte, long timestampMillis) {
+        this.tipo = tipo;
+        this.email = email;
+        this.moeda = moeda;
+        this.valor = valor;
+        this.saldoResultante = saldoResultante;
+        this.contraparte = contraparte;
+        this.timestampMillis = timestampMillis;
+    }
+
+    // ===== GETTERS =====
+
+    public Tipo getTipo() {
+        return tipo;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    /**
+     * Obtém a moeda do saldo alterado; valor e saldo resultante estão nessa moeda
+     * @return Moeda do evento
+     */
+    public Moeda getMoeda() {
+        return moeda;
+    }
+
+    public double getValor() {
+        return valor;
+    }
+
+    public double getSaldoResultante() {
+        return saldoResultante;
+    }
+
+    public String getContraparte() {
+        return contraparte;
+    }
+
+    public long getTimestampMillis() {
+        return timestampMillis;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s %s: %s %.2f (saldo %.2f) - %s", tipo, email, moeda, valor, saldoResultante, contraparte);
+    }
+}
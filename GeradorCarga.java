@@ -0,0 +1,450 @@
+package fintrack.benchmark;
+
+import fintrack.repository.UsuarioRepository;
+import fintrack.service.UsuarioService;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Gerador de carga reproduzível para a camada de serviço do FinTrack
+ * Executa uma mistura configurável de login, transferência, crédito e
+ * consulta de histórico contra o {@link UsuarioService}, no mesmo processo,
+ * registrando latências, vazão, GC e heap ao longo do tempo
+ *
+ * Uso: java fintrack.benchmark.GeradorCarga chave=valor ...
+ * Ex.: java fintrack.benchmark.GeradorCarga contas=100000 threads=8 taxa=50000 duracao=600
+ *
+ * @author Arthur Oliveira Silva
+ * @version 1.0
+ */
+public class GeradorCarga {
+
+    /**
+     * Operações executadas pelo gerador
+     */
+    public enum Operacao {
+        LOGIN, TRANSFERENCIA, CREDITO, HISTORICO
+    }
+
+    /**
+     * Parâmetros de uma execução de carga
+     */
+    public static class Configuracao {
+        private long semente = 42;
+        private int contas = 10_000;
+        private int threads = 4;
+        private double taxaAlvo = 10_000;     // operações por segundo (0 = sem limite)
+        private int duracaoSegundos = 30;
+        private double expoenteZipf = 1.0;    // 0 = distribuição uniforme
+        private int percentualLogin = 10;
+        private int percentualTransferencia = 40;
+        private int percentualCredito = 40;
+        private int percentualHistorico = 10;
+        private int intervaloAmostragemSegundos = 1;
+        private boolean silenciarSaida = true;
+
+        /**
+         * Cria a configuração a partir de argumentos no formato chave=valor
+         * @param args Argumentos de linha de comando
+         * @return Configuração preenchida
+         */
+        public static Configuracao deArgumentos(String[] args) {
+            Configuracao configuracao = new Configuracao();
+            for (String arg : args) {
+                int igual = arg.indexOf('=');
+                if (igual <= 0) {
+                    throw new IllegalArgumentException("Argumento inválido (esperado chave=valor): " + arg);
+                }
+                configuracao.definir(arg.substring(0, igual).trim(), arg.substring(igual + 1).trim());
+            }
+            configuracao.validar();
+            return configuracao;
+        }
+
+        private void definir(String chave, String valor) {
+            switch (chave) {
+                case "semente": semente = Long.parseLong(valor); break;
+                case "contas": contas = Integer.parseInt(valor); break;
+                case "threads": threads = Integer.parseInt(valor); break;
+                case "taxa": taxaAlvo = Double.parseDouble(valor); break;
+                case "duracao": duracaoSegundos = Integer.parseInt(valor); break;
+                case "zipf": expoenteZipf = Double.parseDouble(valor); break;
+                case "login": percentualLogin = Integer.parseInt(valor); break;
+                case "transferencia": percentualTransferencia = Integer.parseInt(valor); break;
+                case "credito": percentualCredito = Integer.parseInt(valor); break;
+                case "historico": percentualHistorico = Integer.parseInt(valor); break;
+                case "amostragem": intervaloAmostragemSegundos = Integer.parseInt(valor); break;
+                case "silenciar": silenciarSaida = Boolean.parseBoolean(valor); break;
+                default: throw new IllegalArgumentException("Parâmetro desconhecido: " + chave);
+            }
+        }
+
+        private void validar() {
+            if (contas <= 0 || threads <= 0 || duracaoSegundos <= 0 || intervaloAmostragemSegundos <= 0) {
+                throw new IllegalArgumentException("contas, threads, duracao e amostragem devem ser maiores que zero");
+            }
+            if (percentualLogin + percentualTransferencia + percentualCredito + percentualHistorico != 100) {
+                throw new IllegalArgumentException("A soma dos percentuais da mistura deve ser 100");
+            }
+        }
+
+        @Override
+        public String toString() {
+            return String.format("semente=%d contas=%d threads=%d taxa=%.0f/s duracao=%ds zipf=%.2f mistura=%d/%d/%d/%d",
+                                 semente, contas, threads, taxaAlvo, duracaoSegundos, expoenteZipf,
+                                 percentualLogin, percentualTransferencia, percentualCredito, percentualHistorico);
+        }
+    }
+
+    /**
+     * Amostra periódica de vazão e memória
+     */
+    private static class Amostra {
+        final long segundos;
+        final long operacoes;
+        final long heapUsadoBytes;
+        final long heapVivoBytes; // geração antiga após a última coleta; -1 antes da primeira
+        final long coletasGc;
+        final long tempoGcMs;
+
+        Amostra(long segundos, long operacoes, long heapUsadoBytes, long heapVivoBytes, long coletasGc,
+                long tempoGcMs) {
+            this.segundos = segundos;
+            this.operacoes = operacoes;
+            this.heapUsadoBytes = heapUsadoBytes;
+            this.heapVivoBytes = heapVivoBytes;
+            this.coletasGc = coletasGc;
+            this.tempoGcMs = tempoGcMs;
+        }
+    }
+
+    private final Configuracao configuracao;
+    private final UsuarioRepository usuarioRepository;
+    private final double[] distribuicaoZipf;
+    private final AtomicLong operacoesConcluidas;
+    private final List<Amostra> amostras;
+    private final List<MemoryPoolMXBean> poolsGeracaoAntiga;
+
+    /**
+     * Construtor da classe GeradorCarga
+     * @param configuracao Parâmetros da execução
+     */
+    public GeradorCarga(Configuracao configuracao) {
+        this.configuracao = configuracao;
+        this.usuarioRepository = new UsuarioRepository();
+        this.distribuicaoZipf = criarDistribuicaoZipf(configuracao.contas, configuracao.expoenteZipf);
+        this.operacoesConcluidas = new AtomicLong();
+        this.amostras = new ArrayList<>();
+        this.poolsGeracaoAntiga = localizarPoolsGeracaoAntiga();
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        Configuracao configuracao = Configuracao.deArgumentos(args);
+        System.out.println("=== GERADOR DE CARGA FINTRACK ===");
+        System.out.println("⚙️  " + configuracao);
+        new GeradorCarga(configuracao).executar();
+    }
+
+    /**
+     * Executa a carga configurada e imprime o relatório ao final
+     * @throws InterruptedException se a thread principal for interrompida
+     */
+    public void executar() throws InterruptedException {
+        PrintStream saidaOriginal = System.out;
+        HistogramaLatencia[][] histogramas = new HistogramaLatencia[configuracao.threads][];
+        CountDownLatch fim = new CountDownLatch(configuracao.threads);
+        long inicio = System.nanoTime();
+        long termino = inicio + TimeUnit.SECONDS.toNanos(configuracao.duracaoSegundos);
+
+        ScheduledExecutorService monitor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "fintrack-carga-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        registrarAmostra(inicio);
+        monitor.scheduleAtFixedRate(() -> registrarAmostra(inicio), configuracao.intervaloAmostragemSegundos,
+                                    configuracao.intervaloAmostragemSegundos, TimeUnit.SECONDS);
+
+        if (configuracao.silenciarSaida) {
+            // O serviço escreve no console a cada operação; isso dominaria as medições
+            System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        }
+
+        try {
+            for (int i = 0; i < configuracao.threads; i++) {
+                final int indice = i;
+                histogramas[i] = novosHistogramas();
+                Thread trabalhador = new Thread(() -> {
+                    try {
+                        executarTrabalhador(indice, histogramas[indice], inicio, termino);
+                    } finally {
+                        fim.countDown();
+                    }
+                }, "fintrack-carga-" + i);
+                trabalhador.start();
+            }
+            fim.await();
+        } finally {
+            System.setOut(saidaOriginal);
+            monitor.shutdownNow();
+        }
+
+        registrarAmostra(inicio);
+        imprimirRelatorio(histogramas, System.nanoTime() - inicio);
+    }
+
+    // ===== MÉTODOS PRIVADOS =====
+
+    /**
+     * Laço de um trabalhador: cada thread tem sua própria sessão e gerador aleatório
+     * As latências são medidas a partir do instante planejado de cada operação,
+     * para que atrasos acumulados apareçam nos percentis
+     */
+    private void executarTrabalhador(int indice, HistogramaLatencia[] histogramas, long inicio, long termino) {
+        Random random = new Random(configuracao.semente * 31 + indice);
+        UsuarioService service = new UsuarioService(usuarioRepository);
+        double taxaPorThread = configuracao.taxaAlvo / configuracao.threads;
+        long intervaloNanos = taxaPorThread > 0 ? (long) (1_000_000_000L / taxaPorThread) : 0;
+        long planejado = inicio;
+
+        fazerLogin(service, sortearConta(random));
+
+        while (true) {
+            long agora = System.nanoTime();
+            if (agora >= termino) break;
+
+            if (intervaloNanos > 0) {
+                if (agora < planejado) {
+                    LockSupport.parkNanos(planejado - agora);
+                    continue;
+                }
+            } else {
+                planejado = agora;
+            }
+
+            Operacao operacao = sortearOperacao(random);
+            executarOperacao(service, operacao, random);
+            histogramas[operacao.ordinal()].registrar(System.nanoTime() - planejado);
+            operacoesConcluidas.incrementAndGet();
+            planejado += intervaloNanos;
+        }
+
+        service.logout();
+    }
+
+    private void executarOperacao(UsuarioService service, Operacao operacao, Random random) {
+        switch (operacao) {
+            case LOGIN:
+                service.logout();
+                fazerLogin(service, sortearConta(random));
+                break;
+            case TRANSFERENCIA:
+                service.realizarTransferencia(1 + random.nextInt(10_000) / 100.0, "Destino " + random.nextInt(1000));
+                break;
+            case CREDITO:
+                service.receberDinheiro(1 + random.nextInt(10_000) / 100.0, "Origem " + random.nextInt(1000));
+                break;
+            default:
+                service.exibirHistoricoTransacoes();
+        }
+    }
+
+    private void fazerLogin(UsuarioService service, int conta) {
+        service.loginOuCriarUsuario("Cliente Carga", "cliente" + conta + "@carga.fintrack.com");
+    }
+
+    private Operacao sortearOperacao(Random random) {
+        int sorteio = random.nextInt(100);
+        if (sorteio < configuracao.percentualLogin) return Operacao.LOGIN;
+        sorteio -= configuracao.percentualLogin;
+        if (sorteio < configuracao.percentualTransferencia) return Operacao.TRANSFERENCIA;
+        sorteio -= configuracao.percentualTransferencia;
+        if (sorteio < configuracao.percentualCredito) return Operacao.CREDITO;
+        return Operacao.HISTORICO;
+    }
+
+    /**
+     * Sorteia uma conta seguindo a distribuição de Zipf (contas "quentes" no início)
+     */
+    private int sortearConta(Random random) {
+        double sorteio = random.nextDouble();
+        int baixo = 0;
+        int alto = distribuicaoZipf.length - 1;
+        while (baixo < alto) {
+            int meio = (baixo + alto) >>> 1;
+            if (distribuicaoZipf[meio] < sorteio) {
+                baixo = meio + 1;
+            } else {
+                alto = meio;
+            }
+        }
+        return baixo;
+    }
+
+    /**
+     * Pré-calcula a função de distribuição acumulada de Zipf
+     * @param contas Quantidade de contas
+     * @param expoente Expoente da distribuição
+     * @return Distribuição acumulada normalizada
+     */
+    private static double[] criarDistribuicaoZipf(int contas, double expoente) {
+        double[] acumulada = new double[contas];
+        double soma = 0;
+        for (int i = 0; i < contas; i++) {
+            soma += 1.0 / Math.pow(i + 1, expoente);
+            acumulada[i] = soma;
+        }
+        for (int i = 0; i < contas; i++) {
+            acumulada[i] /= soma;
+        }
+        acumulada[contas - 1] = 1.0;
+        return acumulada;
+    }
+
+    private static HistogramaLatencia[] novosHistogramas() {
+        HistogramaLatencia[] histogramas = new HistogramaLatencia[Operacao.values().length];
+        for (int i = 0; i < histogramas.length; i++) {
+            histogramas[i] = new HistogramaLatencia();
+        }
+        return histogramas;
+    }
+
+    private void registrarAmostra(long inicio) {
+        MemoryMXBean memoria = ManagementFactory.getMemoryMXBean();
+        long coletas = 0;
+        long tempoGc = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            coletas += Math.max(0, gc.getCollectionCount());
+            tempoGc += Math.max(0, gc.getCollectionTime());
+        }
+        Amostra amostra = new Amostra(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - inicio),
+                                      operacoesConcluidas.get(), memoria.getHeapMemoryUsage().getUsed(),
+                                      medirHeapVivo(), coletas, tempoGc);
+        synchronized (amostras) {
+            amostras.add(amostra);
+        }
+    }
+
+    private void imprimirRelatorio(HistogramaLatencia[][] histogramas, long duracaoNanos) {
+        System.out.println("\n" + "=".repeat(40));
+        System.out.println("📊 RELATÓRIO DE CARGA");
+        System.out.println("=".repeat(40));
+
+        HistogramaLatencia geral = new HistogramaLatencia();
+        for (Operacao operacao : Operacao.values()) {
+            HistogramaLatencia porOperacao = new HistogramaLatencia();
+            for (HistogramaLatencia[] daThread : histogramas) {
+                porOperacao.combinar(daThread[operacao.ordinal()]);
+            }
+            geral.combinar(porOperacao);
+            System.out.println(String.format("%-14s %s", operacao, porOperacao.resumo()));
+        }
+        System.out.println(String.format("%-14s %s", "TOTAL", geral.resumo()));
+
+        double segundos = duracaoNanos / 1_000_000_000.0;
+        System.out.println(String.format("🚀 Vazão: %.0f ops/s (%d operações em %.1fs)",
+                                         geral.getTotal() / segundos, geral.getTotal(), segundos));
+        System.out.println("👥 Contas cadastradas: " + usuarioRepository.getQuantidade());
+
+        System.out.println("\n⏱️  seg      ops/s   heap(MB)   vivo(MB)   GCs  GC(ms)");
+        List<Amostra> copia;
+        synchronized (amostras) {
+            copia = new ArrayList<>(amostras);
+        }
+        for (int i = 1; i < copia.size(); i++) {
+            Amostra anterior = copia.get(i - 1);
+            Amostra atual = copia.get(i);
+            long intervalo = Math.max(1, atual.segundos - anterior.segundos);
+            String vivo = atual.heapVivoBytes < 0 ? "-" : String.format("%.1f", atual.heapVivoBytes / (1024.0 * 1024.0));
+            System.out.println(String.format("%6d %10d %10.1f %10s %5d %7d", atual.segundos,
+                                             (atual.operacoes - anterior.operacoes) / intervalo,
+                                             atual.heapUsadoBytes / (1024.0 * 1024.0), vivo,
+                                             atual.coletasGc - anterior.coletasGc,
+                                             atual.tempoGcMs - anterior.tempoGcMs));
+        }
+        double tendencia = tendenciaHeapMbPorMinuto(copia);
+        if (Double.isNaN(tendencia)) {
+            System.out.println("📈 Tendência do heap vivo: indisponível (menos de duas amostras após coletas da geração antiga)");
+        } else {
+            System.out.println(String.format("📈 Tendência do heap vivo: %.2f MB/min", tendencia));
+        }
+    }
+
+    /**
+     * Pools da geração antiga (ex.: "G1 Old Gen", "PS Old Gen", "Tenured Gen")
+     * Coletores sem gerações expõem um único pool de heap, usado no lugar
+     */
+    private static List<MemoryPoolMXBean> localizarPoolsGeracaoAntiga() {
+        List<MemoryPoolMXBean> antigos = new ArrayList<>();
+        List<MemoryPoolMXBean> heap = new ArrayList<>();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() != MemoryType.HEAP || !pool.isCollectionUsageThresholdSupported()) continue;
+            heap.add(pool);
+            if (pool.getName().contains("Old") || pool.getName().contains("Tenured")) {
+                antigos.add(pool);
+            }
+        }
+        return antigos.isEmpty() ? heap : antigos;
+    }
+
+    /**
+     * Heap vivo: ocupação da geração antiga medida logo após a última coleta
+     * Ao contrário do heap usado instantâneo, não oscila com o lixo ainda não coletado
+     * @return Bytes ocupados após a coleta, ou -1 se ainda não houve coleta
+     */
+    private long medirHeapVivo() {
+        long vivo = 0;
+        for (MemoryPoolMXBean pool : poolsGeracaoAntiga) {
+            if (pool.getCollectionUsage() != null) {
+                vivo += pool.getCollectionUsage().getUsed();
+            }
+        }
+        return vivo > 0 ? vivo : -1;
+    }
+
+    /**
+     * Inclinação (mínimos quadrados) do heap vivo ao longo do tempo
+     * Em execuções longas, uma tendência positiva persistente indica vazamento
+     * (histórico sem limite, sessões que não são liberadas etc.)
+     * Amostras anteriores à primeira coleta são ignoradas
+     * @return MB/min, ou NaN sem ao menos duas amostras com coleta
+     */
+    private static double tendenciaHeapMbPorMinuto(List<Amostra> amostras) {
+        int n = 0;
+        double mediaX = 0;
+        double mediaY = 0;
+        for (Amostra amostra : amostras) {
+            if (amostra.heapVivoBytes < 0) continue;
+            n++;
+            mediaX += amostra.segundos;
+            mediaY += amostra.heapVivoBytes;
+        }
+        if (n < 2) return Double.NaN;
+        mediaX /= n;
+        mediaY /= n;
+        double numerador = 0;
+        double denominador = 0;
+        for (Amostra amostra : amostras) {
+            if (amostra.heapVivoBytes < 0) continue;
+            double dx = amostra.segundos - mediaX;
+            numerador += dx * (amostra.heapVivoBytes - mediaY);
+            denominador += dx * dx;
+        }
+        if (denominador == 0) return 0;
+        return numerador / denominador * 60 / (1024.0 * 1024.0);
+    }
+}
@@ -0,0 +1,108 @@
+package fintrack.benchmark;
+
+/**
+ * Histograma de latências com baldes logarítmicos
+ * Cada potência de dois é dividida em 8 sub-baldes, o que garante
+ * erro relativo máximo de 12,5% com memória fixa e sem alocação por registro
+ *
+ * @author Arthur Oliveira Silva
+ * @version 1.0
+ */
+public class HistogramaLatencia {
+
+    private static final int SUB_BALDES = 8;
+    private static final int TOTAL_BALDES = 512;
+
+    private final long[] contagens;
+    private long total;
+    private long maximo;
+    private long soma;
+
+    /**
+     * Construtor da classe HistogramaLatencia
+     */
+    public HistogramaLatencia() {
+        this.contagens = new long[TOTAL_BALDES];
+    }
+
+    /**
+     * Registra uma latência
+     * @param nanos Latência em nanossegundos
+     */
+    public void registrar(long nanos) {
+        if (nanos < 0) nanos = 0;
+        contagens[indiceBalde(nanos)]++;
+        total++;
+        soma += nanos;
+        if (nanos > maximo) maximo = nanos;
+    }
+
+    /**
+     * Soma as contagens de outro histograma a este
+     * @param outro Histograma a ser combinado
+     */
+    public void combinar(HistogramaLatencia outro) {
+        for (int i = 0; i < TOTAL_BALDES; i++) {
+            contagens[i] += outro.contagens[i];
+        }
+        total += outro.total;
+        soma += outro.soma;
+        maximo = Math.max(maximo, outro.maximo);
+    }
+
+    /**
+     * Calcula o percentil informado
+     * @param percentil Percentil entre 0 e 100
+     * @return Limite superior do balde do percentil, em nanossegundos
+     */
+    public long percentil(double percentil) {
+        if (total == 0) return 0;
+        long alvo = Math.max(1, (long) Math.ceil(total * percentil / 100.0));
+        long acumulado = 0;
+        for (int i = 0; i < TOTAL_BALDES; i++) {
+            acumulado += contagens[i];
+            if (acumulado >= alvo) {
+                return Math.min(limiteSuperior(i), maximo);
+            }
+        }
+        return maximo;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public long getMaximo() {
+        return maximo;
+    }
+
+    public double getMedia() {
+        return total == 0 ? 0 : (double) soma / total;
+    }
+
+    /**
+     * Resumo textual do histograma em microssegundos
+     * @return Texto com média e percentis
+     */
+    public String resumo() {
+        return String.format("n=%d média=%.1fµs p50=%.1fµs p90=%.1fµs p99=%.1fµs p99.9=%.1fµs máx=%.1fµs",
+                             total, getMedia() / 1000.0, percentil(50) / 1000.0, percentil(90) / 1000.0,
+                             percentil(99) / 1000.0, percentil(99.9) / 1000.0, maximo / 1000.0);
+    }
+
+    // ===== MÉTODOS PRIVADOS =====
+
+    private static int indiceBalde(long valor) {
+        if (valor < SUB_BALDES) return (int) valor;
+        int expoente = 63 - Long.numberOfLeadingZeros(valor);
+        return (expoente - 2) * SUB_BALDES + (int) ((valor >>> (expoente - 3)) & (SUB_BALDES - 1));
+    }
+
+    private static long limiteSuperior(int indice) {
+        if (indice < SUB_BALDES) return indice;
+        int expoente = indice / SUB_BALDES + 2;
+        long subBalde = indice % SUB_BALDES;
+        long inferior = (SUB_BALDES + subBalde) << (expoente - 3);
+        return inferior + (1L << (expoente - 3)) - 1;
+    }
+}
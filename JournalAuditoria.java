@@ -0,0 +1,345 @@
+package fintrack.audit;
+
+import fintrack.model.Moeda;
+import fintrack.model.Usuario;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Journal de auditoria encadeado por hash
+ * Cada registro guarda o SHA-256 do registro anterior da mesma conta junto
+ * com os próprios dados, formando uma cadeia por conta. Créditos e débitos
+ * gravam o saldo resultante e checkpoints gravam o saldo real da conta,
+ * permitindo que o {@link VerificadorJournal} detecte saldos alterados fora
+ * das operações registradas já na operação seguinte
+ *
+ * Cada operação e cada checkpoint se referem ao saldo de uma moeda; a cadeia
+ * de hash é única por conta e cobre todas as moedas
+ *
+ * Concorrência: a sequência e o hash de um registro são calculados com o lock
+ * da cadeia da conta, então contas diferentes calculam hashes em paralelo.
+ * Apenas a gravação no arquivo é serializada, e segue a ordem da sequência:
+ * registros prontos aguardam em uma fila até que os anteriores sejam gravados
+ *
+ * Formato de cada registro (binário, big-endian):
+ * tipo (1) | moeda (1) | tamanho do email (2) | email UTF-8 | valor em centavos (8) |
+ * saldo em centavos (8) | sequência (8) | hash SHA-256 (32)
+ *
+ * @author Arthur Oliveira Silva
+ * @version 1.0
+ */
+public class JournalAuditoria implements Closeable {
+
+    /**
+     * Tipos de registro do journal
+     */
+    public enum TipoRegistro {
+        ABERTURA, CREDITO, DEBITO, CHECKPOINT;
+
+        private static final TipoRegistro[] VALORES = values();
+
+        static TipoRegistro deCodigo(int codigo) {
+            if (codigo < 0 || codigo >= VALORES.length) {
+                throw new IllegalArgumentException("Tipo de registro inválido: " + codigo);
+            }
+            return VALORES[codigo];
+        }
+    }
+
+    static final int TAMANHO_HASH = 32;
+    static final byte[] HASH_INICIAL = new byte[TAMANHO_HASH];
+    private static final int TAMANHO_BUFFER = 1 << 16;
+    // Bytes fixos de cada registro além do email
+    private static final int TAMANHO_FIXO = 1 + 1 + 2 + 8 + 8 + 8 + TAMANHO_HASH;
+    private static final ThreadLocal<MessageDigest> DIGEST = ThreadLocal.withInitial(JournalAuditoria::novoDigest);
+
+    /**
+     * Estado da cadeia de uma conta; o próprio objeto é o lock da cadeia
+     */
+    private static class Cadeia {
+        byte[] ultimoHash = HASH_INICIAL;
+        // Moedas que já apareceram em algum registro da conta (bit por ordinal)
+        int moedasRegistradas;
+
+        synchronized boolean registrou(Moeda moeda) {
+            return (moedasRegistradas & (1 << moeda.ordinal())) != 0;
+        }
+    }
+
+    private final DataOutputStream saida;
+    private final Map<String, Cadeia> cadeias;
+    private final AtomicLong proximaSequencia;
+    private final ConcurrentSkipListMap<Long, byte[]> pendentes;
+    private final ReentrantLock lockGravacao;
+    private volatile long proximaGravacao;
+
+    /**
+     * Construtor da classe JournalAuditoria
+     * Abre o arquivo em modo de acréscimo; se ele já existir, as cadeias
+     * continuam a partir do último registro de cada conta. Um registro final
+     * incompleto (queda durante a gravação) é descartado e o arquivo é cortado
+     * no fim do último registro completo
+     * @param arquivo Caminho do arquivo do journal
+     * @throws IOException se o arquivo não puder ser lido ou aberto
+     */
+    public JournalAuditoria(Path arquivo) throws IOException {
+        this.cadeias = new ConcurrentHashMap<>();
+        this.proximaSequencia = new AtomicLong();
+        this.pendentes = new ConcurrentSkipListMap<>();
+        this.lockGravacao = new ReentrantLock();
+        if (Files.exists(arquivo)) {
+            restaurarCadeias(arquivo);
+        }
+        this.proximaGravacao = proximaSequencia.get();
+        this.saida = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(arquivo.toFile(), true), TAMANHO_BUFFER));
+    }
+
+    /**
+     * Registra a abertura de uma conta com seu saldo inicial em reais
+     * As demais moedas começam zeradas
+     * Deve ser chamado com o lock da conta, obtido antes de ela ficar visível no
+     * repositório, para que nenhuma operação seja registrada antes da abertura
+     * @param usuario Conta aberta
+     */
+    public void registrarAbertura(Usuario usuario) {
+        long saldo = usuario.getSaldoCentavos(Moeda.BRL);
+        registrar(TipoRegistro.ABERTURA, Moeda.BRL, usuario.getEmail(), saldo, saldo);
+    }
+
+    /**
+     * Registra um crédito na conta
+     * Deve ser chamado com o lock da conta, junto com a aplicação do crédito,
+     * para que o saldo resultante corresponda exatamente a esta operação
+     * @param usuario Conta creditada
+     * @param moeda Moeda do saldo creditado
+     * @param valorCentavos Valor creditado, em centavos
+     * @param saldoResultanteCentavos Saldo da moeda após o crédito, em centavos
+     */
+    public void registrarCredito(Usuario usuario, Moeda moeda, long valorCentavos, long saldoResultanteCentavos) {
+        registrar(TipoRegistro.CREDITO, moeda, usuario.getEmail(), valorCentavos, saldoResultanteCentavos);
+    }
+
+    /**
+     * Registra um débito na conta
+     * Deve ser chamado com o lock da conta, junto com a aplicação do débito,
+     * para que o saldo resultante corresponda exatamente a esta operação
+     * @param usuario Conta debitada
+     * @param moeda Moeda do saldo debitado
+     * @param valorCentavos Valor debitado, em centavos
+     * @param saldoResultanteCentavos Saldo da moeda após o débito, em centavos
+     */
+    public void registrarDebito(Usuario usuario, Moeda moeda, long valorCentavos, long saldoResultanteCentavos) {
+        registrar(TipoRegistro.DEBITO, moeda, usuario.getEmail(), valorCentavos, saldoResultanteCentavos);
+    }
+
+    /**
+     * Registra um checkpoint com o saldo real da conta em cada moeda
+     * O verificador compara esses saldos com os saldos derivados das operações,
+     * revelando alterações feitas sem registro (ex.: {@link Usuario#setSaldo(double)}).
+     * Moedas com saldo zero que nunca apareceram no journal da conta são omitidas,
+     * pois o saldo derivado delas também é zero.
+     * Usa o lock da conta para não cair entre o registro e a aplicação de outra operação
+     * @param usuario Conta a ser registrada
+     */
+    public void registrarCheckpoint(Usuario usuario) {
+        synchronized (usuario) {
+            Cadeia cadeia = cadeia(usuario.getEmail());
+            for (Moeda moeda : Moeda.values()) {
+                long saldo = usuario.getSaldoCentavos(moeda);
+                if (saldo != 0 || cadeia.registrou(moeda)) {
+                    registrar(TipoRegistro.CHECKPOINT, moeda, usuario.getEmail(), 0, saldo);
+                }
+            }
+        }
+    }
+
+    /**
+     * Obtém a quantidade de registros do journal (inclusive os restaurados ao abrir)
+     * @return Número de registros, igual à próxima sequência
+     */
+    public long getTotalRegistros() {
+        return proximaSequencia.get();
+    }
+
+    /**
+     * Grava no disco os registros ainda em buffer
+     */
+    public void sincronizar() {
+        lockGravacao.lock();
+        try {
+            gravarProntos();
+            saida.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erro ao gravar journal de auditoria", e);
+        } finally {
+            lockGravacao.unlock();
+        }
+    }
+
+    /**
+     * Fecha o arquivo; deve ser chamado depois que as operações registradas terminarem
+     */
+    @Override
+    public void close() throws IOException {
+        lockGravacao.lock();
+        try {
+            gravarProntos();
+            saida.close();
+        } finally {
+            lockGravacao.unlock();
+        }
+    }
+
+    // ===== MÉTODOS PRIVADOS =====
+
+    private void restaurarCadeias(Path arquivo) throws IOException {
+        long posicaoValida = -1;
+        try (LeitorJournal leitor = new LeitorJournal(arquivo)) {
+            LeitorJournal.Registro registro;
+            while ((registro = leitor.proximo()) != null) {
+                Cadeia cadeia = cadeia(new String(registro.emailBytes, StandardCharsets.UTF_8));
+                cadeia.ultimoHash = registro.hash;
+                cadeia.moedasRegistradas |= 1 << registro.moeda.ordinal();
+                proximaSequencia.set(registro.sequencia + 1);
+            }
+        } catch (LeitorJournal.RegistroIncompletoException e) {
+            posicaoValida = e.getPosicaoValida();
+        }
+
+        if (posicaoValida >= 0) {
+            try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.WRITE)) {
+                long descartados = canal.size() - posicaoValida;
+                canal.truncate(posicaoValida);
+                System.out.println("⚠️  Journal de auditoria com registro incompleto no fim: "
+                                   + descartados + " bytes descartados (arquivo cortado em " + posicaoValida + " bytes)");
+            }
+        }
+    }
+
+    private Cadeia cadeia(String email) {
+        return cadeias.computeIfAbsent(email, chave -> new Cadeia());
+    }
+
+    /**
+     * Encadeia o registro com o lock da conta e o entrega para gravação em ordem
+     */
+    private void registrar(TipoRegistro tipo, Moeda moeda, String email, long valorCentavos, long saldoCentavos) {
+        byte[] emailBytes = email.getBytes(StandardCharsets.UTF_8);
+        Cadeia cadeia = cadeia(email);
+        long sequencia;
+        byte[] hash;
+        synchronized (cadeia) {
+            // A sequência é obtida com o lock da cadeia para que a ordem da cadeia siga a sequência
+            sequencia = proximaSequencia.getAndIncrement();
+            hash = calcularHash(DIGEST.get(), cadeia.ultimoHash, tipo, moeda, emailBytes,
+                                valorCentavos, saldoCentavos, sequencia);
+            cadeia.ultimoHash = hash;
+            cadeia.moedasRegistradas |= 1 << moeda.ordinal();
+        }
+
+        try {
+            // Caminho rápido: sem disputa e na vez deste registro, grava direto no arquivo
+            if (lockGravacao.tryLock()) {
+                try {
+                    if (sequencia == proximaGravacao) {
+                        saida.writeByte(tipo.ordinal());
+                        saida.writeByte(moeda.ordinal());
+                        saida.writeShort(emailBytes.length);
+                        saida.write(emailBytes);
+                        saida.writeLong(valorCentavos);
+                        saida.writeLong(saldoCentavos);
+                        saida.writeLong(sequencia);
+                        saida.write(hash);
+                        proximaGravacao = sequencia + 1;
+                    } else {
+                        pendentes.put(sequencia, codificar(tipo, moeda, emailBytes, valorCentavos, saldoCentavos, sequencia, hash));
+                    }
+                    gravarProntos();
+                } finally {
+                    lockGravacao.unlock();
+                }
+            } else {
+                pendentes.put(sequencia, codificar(tipo, moeda, emailBytes, valorCentavos, saldoCentavos, sequencia, hash));
+            }
+
+            // Quem conseguir o lock grava os registros prontos; os demais seguem sem esperar.
+            // Confere de novo após liberar o lock para não deixar para trás um registro entregue nesse meio tempo
+            while (pendentes.containsKey(proximaGravacao)) {
+                if (!lockGravacao.tryLock()) return;
+                try {
+                    gravarProntos();
+                } finally {
+                    lockGravacao.unlock();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Erro ao gravar journal de auditoria", e);
+        }
+    }
+
+    private static byte[] codificar(TipoRegistro tipo, Moeda moeda, byte[] emailBytes, long valorCentavos,
+                                    long saldoCentavos, long sequencia, byte[] hash) {
+        ByteBuffer registro = ByteBuffer.allocate(TAMANHO_FIXO + emailBytes.length);
+        registro.put((byte) tipo.ordinal()).put((byte) moeda.ordinal()).putShort((short) emailBytes.length).put(emailBytes)
+                .putLong(valorCentavos).putLong(saldoCentavos).putLong(sequencia).put(hash);
+        return registro.array();
+    }
+
+    /**
+     * Grava, na ordem da sequência, os registros prontos sem lacuna; chamado com o lock de gravação
+     */
+    private void gravarProntos() throws IOException {
+        byte[] registro;
+        while ((registro = pendentes.remove(proximaGravacao)) != null) {
+            saida.write(registro);
+            proximaGravacao = proximaGravacao + 1;
+        }
+    }
+
+    /**
+     * Calcula o hash encadeado de um registro
+     */
+    static byte[] calcularHash(MessageDigest digest, byte[] anterior, TipoRegistro tipo, Moeda moeda, byte[] emailBytes,
+                               long valorCentavos, long saldoCentavos, long sequencia) {
+        digest.reset();
+        digest.update(anterior);
+        digest.update((byte) tipo.ordinal());
+        digest.update((byte) moeda.ordinal());
+        digest.update(emailBytes);
+        atualizarComLong(digest, valorCentavos);
+        atualizarComLong(digest, saldoCentavos);
+        atualizarComLong(digest, sequencia);
+        return digest.digest();
+    }
+
+    static MessageDigest novoDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+
+    private static void atualizarComLong(MessageDigest digest, long valor) {
+        for (int deslocamento = 56; deslocamento >= 0; deslocamento -= 8) {
+            digest.update((byte) (valor >>> deslocamento));
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package fintrack.audit;
+
+import fintrack.model.Moeda;
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Leitura sequencial dos registros gravados pelo {@link JournalAuditoria}
+ *
+ * @author Arthur Oliveira Silva
+ * @version 1.0
+ */
+class LeitorJournal implements Closeable {
+
+    private static final int TAMANHO_BUFFER = 1 << 20;
+    private static final Moeda[] MOEDAS = Moeda.values();
+
+    /**
+     * Registro lido do journal
+     */
+    static class Registro {
+        final JournalAuditoria.TipoRegistro tipo;
+        final Moeda moeda;
+        final byte[] emailBytes;
+        final long valorCentavos;
+        final long saldoCentavos;
+        final long sequencia;
+        final byte[] hash;
+
+        Registro(JournalAuditoria.TipoRegistro tipo, Moeda moeda, byte[] emailBytes, long valorCentavos,
+                 long saldoCentavos, long sequencia, byte[] hash) {
+            this.tipo = tipo;
+            this.moeda = moeda;
+            this.emailBytes = emailBytes;
+            this.valorCentavos = valorCentavos;
+            this.saldoCentavos = saldoCentavos;
+            this.sequencia = sequencia;
+            this.hash = hash;
+        }
+    }
+
+    /**
+     * Indica que o arquivo termina no meio de um registro (ex.: queda durante a gravação)
+     */
+    static class RegistroIncompletoException extends IOException {
+        private static final long serialVersionUID = 1L;
+
+        private final long posicaoValida;
+
+        RegistroIncompletoException(long posicaoValida, Throwable causa) {
+            super("Journal truncado: último registro incompleto após o byte " + posicaoValida, causa);
+            this.posicaoValida = posicaoValida;
+        }
+
+        /**
+         * Tamanho do arquivo até o fim do último registro completo
+         * @return Posição em bytes
+         */
+        long getPosicaoValida() {
+            return posicaoValida;
+        }
+    }
+
+    // Bytes fixos de cada registro além do tipo e do email
+    private static final int TAMANHO_FIXO = 1 + 2 + 8 + 8 + 8 + JournalAuditoria.TAMANHO_HASH;
+
+    private final DataInputStream entrada;
+    private long posicaoRegistroCompleto;
+
+    LeitorJournal(Path arquivo) throws IOException {
+        this.entrada = new DataInputStream(new BufferedInputStream(new FileInputStream(arquivo.toFile()), TAMANHO_BUFFER));
+    }
+
+    /**
+     * Lê o próximo registro
+     * @return Registro lido ou null no fim do arquivo
+     * @throws RegistroIncompletoException se o arquivo terminar no meio de um registro
+     * @throws IOException se o arquivo estiver ilegível
+     */
+    Registro proximo() throws IOException {
+        int tipo = entrada.read();
+        if (tipo < 0) return null;
+
+        try {
+            int moeda = entrada.readUnsignedByte();
+            byte[] emailBytes = new byte[entrada.readUnsignedShort()];
+            entrada.readFully(emailBytes);
+            long valorCentavos = entrada.readLong();
+            long saldoCentavos = entrada.readLong();
+            long sequencia = entrada.readLong();
+            byte[] hash = new byte[JournalAuditoria.TAMANHO_HASH];
+            entrada.readFully(hash);
+            posicaoRegistroCompleto += 1 + TAMANHO_FIXO + emailBytes.length;
+            if (moeda >= MOEDAS.length) {
+                throw new IOException("Moeda inválida no journal: " + moeda + " (sequência " + sequencia + ")");
+            }
+            return new Registro(JournalAuditoria.TipoRegistro.deCodigo(tipo), MOEDAS[moeda], emailBytes,
+                                valorCentavos, saldoCentavos, sequencia, hash);
+        } catch (EOFException e) {
+            throw new RegistroIncompletoException(posicaoRegistroCompleto, e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        entrada.close();
+    }
+}
@@ -0,0 +1,100 @@
+package fintrack.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.DecimalFormatSymbols;
+
+/**
+ * Moedas suportadas pelas contas do FinTrack
+ *
+ * @author Arthur Oliveira Silva
+ * @version 1.0
+ */
+public enum Moeda {
+    BRL("R$"),
+    USD("US$"),
+    EUR("€");
+
+    private static final Moeda[] VALORES = values();
+    // Abaixo deste módulo o arredondamento é feito só com aritmética de double
+    private static final double LIMITE_ARREDONDAMENTO_RAPIDO = 1e11;
+
+    /**
+     * Separador decimal obtido sob demanda, no primeiro uso
+     */
+    private static class Formatos {
+        // Mesmo separador decimal que String.format usaria no locale padrão
+        static final char SEPARADOR_DECIMAL = DecimalFormatSymbols.getInstance().getDecimalSeparator();
+    }
+
+    private final String simbolo;
+
+    Moeda(String simbolo) {
+        this.simbolo = simbolo;
+    }
+
+    public String getSimbolo() {
+        return simbolo;
+    }
+
+    /**
+     * Formata valor em centavos com o símbolo da moeda, sem String.format
+     * @param centavos Valor em centavos
+     * @return String formatada, ex.: "US$ 10.50"
+     */
+    public String formatar(long centavos) {
+        long absoluto = Math.abs(centavos);
+        long fracao = absoluto % 100;
+        StringBuilder texto = new StringBuilder(simbolo.length() + 24).append(simbolo).append(' ');
+        if (centavos < 0) texto.append('-');
+        texto.append(absoluto / 100).append(Formatos.SEPARADOR_DECIMAL);
+        if (fracao < 10) texto.append('0');
+        return texto.append(fracao).toString();
+    }
+
+    /**
+     * Converte valor monetário para centavos, arredondando metade para cima
+     * sobre a representação decimal do valor, como String.format("%.2f")
+     * (ex.: 1.005 vira 101 centavos, e não 100 como em Math.round(1.005 * 100))
+     * Na faixa usual não aloca: compara o valor com o double mais próximo do
+     * meio-centavo decimal, o que equivale a arredondar sua representação decimal
+     * @param valor Valor a ser convertido
+     * @return Valor em centavos
+     */
+    public static long converterParaCentavos(double valor) {
+        if (!Double.isFinite(valor)) {
+            return Math.round(valor * 100);
+        }
+        double absoluto = Math.abs(valor);
+        if (absoluto >= LIMITE_ARREDONDAMENTO_RAPIDO) {
+            return BigDecimal.valueOf(valor).setScale(2, RoundingMode.HALF_UP).unscaledValue().longValue();
+        }
+        // O produto arredondado nunca fica abaixo do piso exato; se ficar acima, a comparação corrige
+        long piso = (long) (absoluto * 100);
+        long centavos = absoluto >= (2 * piso + 1) / 200.0 ? piso + 1 : piso;
+        return valor < 0 ? -centavos : centavos;
+    }
+
+    /**
+     * Quantidade de moedas suportadas
+     * @return Número de moedas
+     */
+    public static int quantidade() {
+        return VALORES.length;
+    }
+
+    /**
+     * Obtém a moeda pelo código ISO, ex.: "USD"
+     * @param codigo Código da moeda (sem diferenciar maiúsculas)
+     * @return Moeda correspondente
+     * @throws IllegalArgumentException se a moeda não for suportada
+     */
+    public static Moeda deCodigo(String codigo) {
+        for (Moeda moeda : VALORES) {
+            if (moeda.name().equalsIgnoreCase(codigo.trim())) {
+                return moeda;
+            }
+        }
+        throw new IllegalArgumentException("Moeda não suportada: " + codigo);
+    }
+}
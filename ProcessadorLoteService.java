@@ -0,0 +1,366 @@
+package fintrack.service;
+
+import fintrack.audit.JournalAuditoria;
+import fintrack.event.BarramentoEventosSaldo;
+import fintrack.event.EventoSaldo;
+import fintrack.model.Moeda;
+import fintrack.model.Usuario;
+import fintrack.util.ValidadorUtil;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Classe de serviço para o processamento de fim de dia
+ * Aplica juros, tarifas ou cashback a todas as contas em paralelo,
+ * dividindo a lista de contas em partições processadas via fork/join
+ *
+ * As contas já processadas são marcadas, com o lock da conta, no mesmo passo em
+ * que a operação é aplicada: chamar {@link #executar()} de novo na mesma instância,
+ * após uma falha, não aplica a operação duas vezes à mesma conta. Essas marcas
+ * ficam apenas em memória e não sobrevivem a um reinício do processo
+ *
+ * Apenas os primeiros lançamentos são guardados como texto, para consulta; os
+ * totais cobrem o lote inteiro e o registro completo fica no journal de auditoria
+ *
+ * @author Arthur Oliveira Silva
+ * @version 1.0
+ */
+public class ProcessadorLoteService {
+
+    /**
+     * Tipos de operação suportados pelo processamento em lote
+     */
+    public enum TipoOperacaoLote {
+        JUROS,    // valor = taxa percentual sobre o saldo (ex.: 0.5 = 0,5%)
+        TARIFA,   // valor = tarifa fixa debitada da conta
+        CASHBACK  // valor = crédito fixo na conta
+    }
+
+    // Quantidade de contas por partição (unidade de trabalho do fork/join)
+    private static final int TAMANHO_PARTICAO_PADRAO = 4096;
+    // Quantidade máxima de lançamentos guardados como texto
+    private static final int LIMITE_LANCAMENTOS = 1000;
+
+    private final List<Usuario> contas;
+    private final TipoOperacaoLote tipo;
+    private final double valor;
+    private final int tamanhoParticao;
+    private final int totalParticoes;
+    private final BitSet particoesConcluidas;
+    private final AtomicLongArray contasConcluidas;
+    private final AtomicBoolean emExecucao;
+    private final List<String> lancamentos;
+    private final AtomicInteger vagasLancamentos;
+    private final AtomicLong contasAfetadas;
+    private final AtomicLong totalMovimentadoCentavos;
+    private JournalAuditoria journalAuditoria;
+    private BarramentoEventosSaldo barramentoEventos;
+
+    /**
+     * Construtor da classe ProcessadorLoteService
+     * @param contas Contas a serem processadas
+     * @param tipo Tipo de operação a aplicar
+     * @param valor Taxa (para juros) ou valor fixo (para tarifa/cashback)
+     */
+    public ProcessadorLoteService(List<Usuario> contas, TipoOperacaoLote tipo, double valor) {
+        this(contas, tipo, valor, TAMANHO_PARTICAO_PADRAO);
+    }
+
+    /**
+     * Construtor da classe ProcessadorLoteService com tamanho de partição customizado
+     * @param contas Contas a serem processadas
+     * @param tipo Tipo de operação a aplicar
+     * @param valor Taxa (para juros) ou valor fixo (para tarifa/cashback)
+     * @param tamanhoParticao Quantidade de contas por partição
+     */
+    public ProcessadorLoteService(List<Usuario> contas, TipoOperacaoLote tipo, double valor, int tamanhoParticao) {
+        if (tamanhoParticao <= 0) {
+            throw new IllegalArgumentException("Tamanho de partição deve ser maior que zero");
+        }
+        this.contas = contas;
+        this.tipo = tipo;
+        this.valor = valor;
+        this.tamanhoParticao = tamanhoParticao;
+        this.totalParticoes = (contas.size() + tamanhoParticao - 1) / tamanhoParticao;
+        this.particoesConcluidas = new BitSet(totalParticoes);
+        this.contasConcluidas = new AtomicLongArray((contas.size() + 63) >>> 6);
+        this.emExecucao = new AtomicBoolean();
+        this.lancamentos = Collections.synchronizedList(new ArrayList<>());
+        this.vagasLancamentos = new AtomicInteger(LIMITE_LANCAMENTOS);
+        this.contasAfetadas = new AtomicLong();
+        this.totalMovimentadoCentavos = new AtomicLong();
+    }
+
+    /**
+     * Executa o processamento no pool comum do fork/join
+     * Contas já processadas em execuções anteriores desta instância são ignoradas
+     * @throws IllegalStateException se o lote já estiver em execução
+     */
+    public void executar() {
+        executar(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Executa o processamento no pool informado
+     * @param pool Pool fork/join a ser utilizado
+     * @throws IllegalStateException se o lote já estiver em execução
+     */
+    public void executar(ForkJoinPool pool) {
+        if (!emExecucao.compareAndSet(false, true)) {
+            throw new IllegalStateException("Lote já está em execução");
+        }
+        try {
+            if (totalParticoes == 0) return;
+            pool.invoke(new TarefaParticoes(0, totalParticoes));
+        } finally {
+            emExecucao.set(false);
+        }
+    }
+
+    /**
+     * Define o journal de auditoria que registra cada lançamento do lote
+     * @param journalAuditoria Journal de auditoria ou null para desativar
+     */
+    public void setJournalAuditoria(JournalAuditoria journalAuditoria) {
+        this.journalAuditoria = journalAuditoria;
+    }
+
+    /**
+     * Define o barramento que recebe um evento para cada lançamento do lote
+     * @param barramentoEventos Barramento de eventos ou null para desativar
+     */
+    public void setBarramentoEventos(BarramentoEventosSaldo barramentoEventos) {
+        this.barramentoEventos = barramentoEventos;
+    }
+
+    /**
+     * Verifica se todas as partições foram processadas
+     * @return true se o lote foi concluído, false caso contrário
+     */
+    public boolean isConcluido() {
+        return getParticoesConcluidas() == totalParticoes;
+    }
+
+    /**
+     * Obtém a quantidade de partições já processadas
+     * @return Número de partições concluídas
+     */
+    public int getParticoesConcluidas() {
+        synchronized (particoesConcluidas) {
+            return particoesConcluidas.cardinality();
+        }
+    }
+
+    public int getTotalParticoes() {
+        return totalParticoes;
+    }
+
+    public long getContasAfetadas() {
+        return contasAfetadas.get();
+    }
+
+    public double getTotalMovimentado() {
+        return totalMovimentadoCentavos.get() / 100.0;
+    }
+
+    /**
+     * Obtém os primeiros lançamentos gerados pelo lote (no máximo 1000)
+     * @return Lista imutável com os lançamentos
+     */
+    public List<String> getLancamentos() {
+        synchronized (lancamentos) {
+            return Collections.unmodifiableList(new ArrayList<>(lancamentos));
+        }
+    }
+
+    // ===== MÉTODOS PRIVADOS =====
+
+    /**
+     * Processa uma única partição
+     * Cada conta é marcada como concluída junto com a aplicação da operação;
+     * a partição só é marcada quando todas as suas contas terminam
+     * @param particao Índice da partição
+     */
+    private void processarParticao(int particao) {
+        synchronized (particoesConcluidas) {
+            if (particoesConcluidas.get(particao)) return;
+        }
+
+        int inicio = particao * tamanhoParticao;
+        int fim = Math.min(inicio + tamanhoParticao, contas.size());
+        String dataLancamento = ValidadorUtil.formatarDataHora(LocalDateTime.now());
+        List<String> lancamentosParticao = new ArrayList<>();
+        long afetadas = 0;
+        long movimentadoCentavos = 0;
+
+        try {
+            for (int i = inicio; i < fim; i++) {
+                Usuario conta = contas.get(i);
+                long centavos;
+                long saldoResultante;
+                long sequenciaEvento;
+
+                // Leitura, journal, atualização e checkpoint atômicos em relação às operações online da conta
+                synchronized (conta) {
+                    if (isContaConcluida(i)) continue;
+
+                    centavos = calcularCentavos(conta);
+                    saldoResultante = centavos > 0 ? aplicarOperacao(conta, centavos) : -1;
+                    // Posição do evento reservada com o lock, na mesma ordem das operações online
+                    sequenciaEvento = saldoResultante >= 0 && barramentoEventos != null
+                        ? barramentoEventos.reservarSequencia() : -1;
+
+                    // Checkpoint do lote: revela alterações de saldo feitas sem registro
+                    if (journalAuditoria != null) {
+                        journalAuditoria.registrarCheckpoint(conta);
+                    }
+                    marcarContaConcluida(i);
+                }
+
+                if (saldoResultante >= 0) {
+                    publicarEvento(sequenciaEvento, conta, centavos, saldoResultante);
+                    afetadas++;
+                    movimentadoCentavos += centavos;
+                    if (reservarVagaLancamento()) {
+                        lancamentosParticao.add(dataLancamento + " - " + descreverOperacao() + ": "
+                            + ValidadorUtil.formatarMoeda(centavos, Moeda.BRL) + " - " + conta.getEmail());
+                    }
+                }
+            }
+        } finally {
+            // Publica os resultados da partição de uma só vez, inclusive os parciais em caso de falha
+            lancamentos.addAll(lancamentosParticao);
+            contasAfetadas.addAndGet(afetadas);
+            totalMovimentadoCentavos.addAndGet(movimentadoCentavos);
+        }
+
+        synchronized (particoesConcluidas) {
+            particoesConcluidas.set(particao);
+        }
+    }
+
+    /**
+     * Reserva espaço para guardar mais um lançamento como texto
+     * Depois de esgotadas as vagas, nenhum texto é montado
+     * @return true se ainda havia vaga, false caso contrário
+     */
+    private boolean reservarVagaLancamento() {
+        int vagas;
+        do {
+            vagas = vagasLancamentos.get();
+            if (vagas == 0) return false;
+        } while (!vagasLancamentos.compareAndSet(vagas, vagas - 1));
+        return true;
+    }
+
+    private boolean isContaConcluida(int indice) {
+        return (contasConcluidas.get(indice >>> 6) & (1L << indice)) != 0;
+    }
+
+    private void marcarContaConcluida(int indice) {
+        long bit = 1L << indice;
+        long palavra;
+        do {
+            palavra = contasConcluidas.get(indice >>> 6);
+        } while (!contasConcluidas.compareAndSet(indice >>> 6, palavra, palavra | bit));
+    }
+
+    /**
+     * Registra e aplica a operação em uma conta; chamado com o lock da conta
+     * O journal é gravado antes da alteração, com o saldo resultante calculado aqui
+     * @param conta Conta a ser alterada
+     * @param centavos Valor da operação em centavos
+     * @return Saldo resultante em centavos, ou -1 se faltou saldo para a tarifa
+     */
+    private long aplicarOperacao(Usuario conta, long centavos) {
+        long saldoAtual = conta.getSaldoCentavos(Moeda.BRL);
+        if (tipo == TipoOperacaoLote.TARIFA) {
+            if (saldoAtual < centavos) return -1;
+            if (journalAuditoria != null) {
+                journalAuditoria.registrarDebito(conta, Moeda.BRL, centavos, saldoAtual - centavos);
+            }
+            return conta.debitarSaldo(Moeda.BRL, centavos) ? saldoAtual - centavos : -1;
+        }
+        if (journalAuditoria != null) {
+            journalAuditoria.registrarCredito(conta, Moeda.BRL, centavos, saldoAtual + centavos);
+        }
+        conta.creditarSaldo(Moeda.BRL, centavos);
+        return saldoAtual + centavos;
+    }
+
+    /**
+     * Publica o lançamento no barramento, fora do lock da conta, na sequência reservada
+     * @param sequencia Sequência reservada com o lock da conta
+     * @param conta Conta alterada
+     * @param centavos Valor da operação em centavos
+     * @param saldoResultante Saldo em reais após a operação, em centavos
+     */
+    private void publicarEvento(long sequencia, Usuario conta, long centavos, long saldoResultante) {
+        if (sequencia < 0) return;
+        EventoSaldo.Tipo tipoEvento = tipo == TipoOperacaoLote.TARIFA ? EventoSaldo.Tipo.DEBITO : EventoSaldo.Tipo.CREDITO;
+        barramentoEventos.publicar(sequencia, tipoEvento, conta.getEmail(), Moeda.BRL, centavos / 100.0,
+                                   saldoResultante / 100.0, descreverOperacao());
+    }
+
+    /**
+     * Calcula o valor da operação em centavos para evitar erros de arredondamento
+     * @param conta Conta a ser processada
+     * @return Valor em centavos
+     */
+    private long calcularCentavos(Usuario conta) {
+        if (tipo == TipoOperacaoLote.JUROS) {
+            long saldoCentavos = conta.getSaldoCentavos(Moeda.BRL);
+            return Math.round(saldoCentavos * valor / 100.0);
+        }
+        return Math.round(valor * 100);
+    }
+
+    /**
+     * Descrição da operação usada nos lançamentos
+     * @return Texto descritivo
+     */
+    private String descreverOperacao() {
+        switch (tipo) {
+            case JUROS:
+                return "Juros";
+            case TARIFA:
+                return "Tarifa mensal";
+            default:
+                return "Cashback";
+        }
+    }
+
+    /**
+     * Tarefa fork/join que divide o intervalo de partições até uma partição por tarefa
+     */
+    private class TarefaParticoes extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int inicio;
+        private final int fim;
+
+        TarefaParticoes(int inicio, int fim) {
+            this.inicio = inicio;
+            this.fim = fim;
+        }
+
+        @Override
+        protected void compute() {
+            if (fim - inicio <= 1) {
+                processarParticao(inicio);
+                return;
+            }
+            int meio = (inicio + fim) >>> 1;
+            invokeAll(new TarefaParticoes(inicio, meio), new TarefaParticoes(meio, fim));
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package fintrack.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Fotografia imutável e consistente do saldo de um usuário
+ * Obtida pelo caminho de leitura sem bloqueio de {@link Usuario#consultarSaldo()}
+ *
+ * @author Arthur Oliveira Silva
+ * @version 1.0
+ */
+public final class SaldoSnapshot {
+    private final long versao;
+    private final long[] saldosCentavos;
+    private final LocalDateTime ultimoAcesso;
+    private final long[] totaisCreditadosCentavos;
+    private final long[] totaisDebitadosCentavos;
+    private final long quantidadeOperacoes;
+
+    /**
+     * Construtor da classe SaldoSnapshot
+     * Os vetores são indexados pelo ordinal da {@link Moeda} e não são copiados
+     * @param versao Versão da conta no momento da leitura
+     * @param saldosCentavos Saldo atual por moeda, em centavos
+     * @param ultimoAcesso Data do último acesso
+     * @param totaisCreditadosCentavos Soma dos créditos por moeda, em centavos
+     * @param totaisDebitadosCentavos Soma dos débitos por moeda, em centavos
+     * @param quantidadeOperacoes Quantidade de créditos e débitos realizados
+     */
+    public SaldoSnapshot(long versao, long[] saldosCentavos, LocalDateTime ultimoAcesso,
+                         long[] totaisCreditadosCentavos, long[] totaisDebitadosCentavos, long quantidadeOperacoes) {
+        this.versao = versao;
+        this.saldosCentavos = saldosCentavos;
+        this.ultimoAcesso = ultimoAcesso;
+        this.totaisCreditadosCentavos = totaisCreditadosCentavos;
+        this.totaisDebitadosCentavos = totaisDebitadosCentavos;
+        this.quantidadeOperacoes = quantidadeOperacoes;
+    }
+
+    // ===== GETTERS =====
+
+    public long getVersao() {
+        return versao;
+    }
+
+    /**
+     * Obtém o saldo em reais
+     * @return Saldo em BRL
+     */
+    public double getSaldo() {
+        return getSaldoCentavos(Moeda.BRL) / 100.0;
+    }
+
+    public long getSaldoCentavos(Moeda moeda) {
+        return saldosCentavos[moeda.ordinal()];
+    }
+
+    public LocalDateTime getUltimoAcesso() {
+        return ultimoAcesso;
+    }
+
+    /**
+     * Obtém o total creditado em reais
+     * @return Total creditado em BRL
+     */
+    public double getTotalCreditado() {
+        return getTotalCreditadoCentavos(Moeda.BRL) / 100.0;
+    }
+
+    public long getTotalCreditadoCentavos(Moeda moeda) {
+        return totaisCreditadosCentavos[moeda.ordinal()];
+    }
+
+    /**
+     * Obtém o total debitado em reais
+     * @return Total debitado em BRL
+     */
+    public double getTotalDebitado() {
+        return getTotalDebitadoCentavos(Moeda.BRL) / 100.0;
+    }
+
+    public long getTotalDebitadoCentavos(Moeda moeda) {
+        return totaisDebitadosCentavos[moeda.ordinal()];
+    }
+
+    public long getQuantidadeOperacoes() {
+        return quantidadeOperacoes;
+    }
+}
@@ -0,0 +1,169 @@
+package fintrack.service;
+
+import fintrack.model.Moeda;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+/**
+ * Tabela de câmbio em memória usada nas conversões entre moedas
+ * As taxas ficam em uma matriz de ponto fixo que nunca é alterada depois de
+ * publicada: atualizações montam uma nova matriz e trocam a referência
+ * (copy-on-write), então as consultas não usam lock
+ *
+ * Formato do arquivo (properties), uma taxa por linha:
+ * USD.BRL=5.10   (1 USD = 5,10 BRL)
+ * A taxa inversa é derivada automaticamente quando não informada
+ *
+ * @author Arthur Oliveira Silva
+ * @version 1.0
+ */
+public class TabelaCambio {
+
+    // Escala do ponto fixo das taxas (8 casas decimais)
+    private static final long ESCALA = 100_000_000L;
+
+    private volatile long[][] taxas;
+
+    /**
+     * Construtor da classe TabelaCambio
+     * Inicia apenas com as taxas identidade (conversão para a mesma moeda)
+     */
+    public TabelaCambio() {
+        this.taxas = matrizIdentidade();
+    }
+
+    /**
+     * Cria uma tabela a partir de um arquivo local
+     * @param arquivo Caminho do arquivo de taxas
+     * @return Tabela carregada
+     * @throws IOException se o arquivo não puder ser lido
+     */
+    public static TabelaCambio carregar(Path arquivo) throws IOException {
+        TabelaCambio tabela = new TabelaCambio();
+        tabela.recarregar(arquivo);
+        return tabela;
+    }
+
+    /**
+     * Substitui todas as taxas pelas do arquivo
+     * O arquivo é lido fora do lock; só a troca da matriz é sincronizada com
+     * {@link #definirTaxa}. As consultas em andamento continuam vendo a tabela
+     * anterior até a troca
+     * @param arquivo Caminho do arquivo de taxas
+     * @throws IOException se o arquivo não puder ser lido
+     * @throws IllegalArgumentException se alguma linha for inválida
+     */
+    public void recarregar(Path arquivo) throws IOException {
+        Properties propriedades = new Properties();
+        try (Reader leitor = Files.newBufferedReader(arquivo, StandardCharsets.UTF_8)) {
+            propriedades.load(leitor);
+        }
+
+        long[][] novas = matrizIdentidade();
+        boolean[][] explicitas = new boolean[Moeda.quantidade()][Moeda.quantidade()];
+        for (String chave : propriedades.stringPropertyNames()) {
+            int ponto = chave.indexOf('.');
+            if (ponto <= 0) {
+                throw new IllegalArgumentException("Par de moedas inválido (esperado ORIGEM.DESTINO): " + chave);
+            }
+            Moeda origem = Moeda.deCodigo(chave.substring(0, ponto));
+            Moeda destino = Moeda.deCodigo(chave.substring(ponto + 1));
+            long taxa = paraPontoFixo(Double.parseDouble(propriedades.getProperty(chave).trim().replace(",", ".")));
+            novas[origem.ordinal()][destino.ordinal()] = taxa;
+            explicitas[origem.ordinal()][destino.ordinal()] = true;
+        }
+
+        // Deriva as inversas que não vieram no arquivo
+        for (int origem = 0; origem < novas.length; origem++) {
+            for (int destino = 0; destino < novas.length; destino++) {
+                if (explicitas[origem][destino] && !explicitas[destino][origem] && origem != destino) {
+                    novas[destino][origem] = Math.round((double) ESCALA * ESCALA / novas[origem][destino]);
+                }
+            }
+        }
+
+        synchronized (this) {
+            this.taxas = novas;
+        }
+    }
+
+    /**
+     * Define uma taxa (e sua inversa) publicando uma nova matriz
+     * @param origem Moeda de origem
+     * @param destino Moeda de destino
+     * @param taxa Quantidade da moeda de destino por unidade da moeda de origem
+     */
+    public synchronized void definirTaxa(Moeda origem, Moeda destino, double taxa) {
+        long taxaFixa = paraPontoFixo(taxa);
+        long[][] novas = copiar(taxas);
+        novas[origem.ordinal()][destino.ordinal()] = taxaFixa;
+        novas[destino.ordinal()][origem.ordinal()] = Math.round((double) ESCALA * ESCALA / taxaFixa);
+        this.taxas = novas;
+    }
+
+    /**
+     * Verifica se há taxa definida entre duas moedas
+     * @param origem Moeda de origem
+     * @param destino Moeda de destino
+     * @return true se a conversão é possível, false caso contrário
+     */
+    public boolean suporta(Moeda origem, Moeda destino) {
+        return taxas[origem.ordinal()][destino.ordinal()] > 0;
+    }
+
+    /**
+     * Obtém a taxa entre duas moedas
+     * @param origem Moeda de origem
+     * @param destino Moeda de destino
+     * @return Taxa ou 0 se não definida
+     */
+    public double getTaxa(Moeda origem, Moeda destino) {
+        return (double) taxas[origem.ordinal()][destino.ordinal()] / ESCALA;
+    }
+
+    /**
+     * Converte um valor entre moedas, arredondando para o centavo mais próximo
+     * @param centavos Valor em centavos na moeda de origem
+     * @param origem Moeda de origem
+     * @param destino Moeda de destino
+     * @return Valor em centavos na moeda de destino
+     * @throws IllegalStateException se não houver taxa entre as moedas
+     */
+    public long converter(long centavos, Moeda origem, Moeda destino) {
+        long taxa = taxas[origem.ordinal()][destino.ordinal()];
+        if (taxa <= 0) {
+            throw new IllegalStateException("Taxa de câmbio não disponível: " + origem + " -> " + destino);
+        }
+        if (taxa == ESCALA) return centavos;
+        return Math.round((double) centavos * taxa / ESCALA);
+    }
+
+    // ===== MÉTODOS PRIVADOS =====
+
+    private static long paraPontoFixo(double taxa) {
+        if (!(taxa > 0) || Double.isInfinite(taxa)) {
+            throw new IllegalArgumentException("Taxa de câmbio deve ser maior que zero: " + taxa);
+        }
+        return Math.round(taxa * ESCALA);
+    }
+
+    private static long[][] matrizIdentidade() {
+        long[][] matriz = new long[Moeda.quantidade()][Moeda.quantidade()];
+        for (int i = 0; i < matriz.length; i++) {
+            matriz[i][i] = ESCALA;
+        }
+        return matriz;
+    }
+
+    private static long[][] copiar(long[][] origem) {
+        long[][] copia = new long[origem.length][];
+        for (int i = 0; i < origem.length; i++) {
+            copia[i] = origem[i].clone();
+        }
+        return copia;
+    }
+}
@@ -1,5 +1,6 @@
 package fintrack.model;
 
+import java.lang.invoke.VarHandle;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
@@ -11,11 +12,25 @@ import java.time.format.DateTimeFormatter;
  * @version 1.0
  */
 public class Usuario {
+    /**
+     * Formatador de data criado sob demanda, no primeiro uso
+     */
+    private static class Formatos {
+        static final DateTimeFormatter DATA_HORA = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
+    }
+    
     private String nome;
     private String email;
-    private double saldo;
+    // Saldos e totais em centavos, indexados pelo ordinal da Moeda
+    private final long[] saldosCentavos;
+    private final long[] totaisCreditadosCentavos;
+    private final long[] totaisDebitadosCentavos;
     private LocalDateTime dataCadastro;
     private LocalDateTime ultimoAcesso;
+    private long quantidadeOperacoes;
+    
+    // Versão para leitura sem bloqueio (seqlock): ímpar enquanto há escrita em andamento
+    private volatile long versao;
     
     /**
      * Construtor da classe Usuario
@@ -25,7 +40,10 @@ public class Usuario {
     public Usuario(String nome, String email) {
         this.nome = nome;
         this.email = email;
-        this.saldo = 1250.00; // Saldo inicial padrão
+        this.saldosCentavos = new long[Moeda.quantidade()];
+        this.totaisCreditadosCentavos = new long[Moeda.quantidade()];
+        this.totaisDebitadosCentavos = new long[Moeda.quantidade()];
+        this.saldosCentavos[Moeda.BRL.ordinal()] = 125000; // Saldo inicial padrão: R$ 1250,00
         this.dataCadastro = LocalDateTime.now();
         this.ultimoAcesso = LocalDateTime.now();
     }
@@ -48,12 +66,32 @@ public class Usuario {
         this.email = email;
     }
     
+    /**
+     * Obtém o saldo em reais
+     * @return Saldo em BRL
+     */
     public double getSaldo() {
-        return saldo;
+        return lerSaldoCentavos(Moeda.BRL) / 100.0;
     }
     
-    public void setSaldo(double saldo) {
-        this.saldo = saldo;
+    /**
+     * Obtém o saldo em uma moeda, em centavos, sem bloqueio e sem alocação
+     * @param moeda Moeda do saldo
+     * @return Saldo em centavos
+     */
+    public long getSaldoCentavos(Moeda moeda) {
+        return lerSaldoCentavos(moeda);
+    }
+    
+    /**
+     * Sobrescreve o saldo em reais sem registrar operação
+     * Alterações feitas por aqui aparecem como divergência na verificação do journal de auditoria
+     * @param saldo Novo saldo
+     */
+    public synchronized void setSaldo(double saldo) {
+        iniciarEscrita();
+        this.saldosCentavos[Moeda.BRL.ordinal()] = Moeda.converterParaCentavos(saldo);
+        finalizarEscrita();
     }
     
     public LocalDateTime getDataCadastro() {
@@ -61,46 +99,114 @@ public class Usuario {
     }
     
     public LocalDateTime getUltimoAcesso() {
-        return ultimoAcesso;
+        return lerUltimoAcesso();
     }
     
-    public void atualizarUltimoAcesso() {
+    public synchronized void atualizarUltimoAcesso() {
+        iniciarEscrita();
         this.ultimoAcesso = LocalDateTime.now();
+        finalizarEscrita();
+    }
+    
+    /**
+     * Obtém saldo, último acesso e totais de forma consistente, sem bloqueio
+     * Leituras concorrentes não disputam o lock usado pelas escritas
+     * @return Fotografia do saldo da conta
+     */
+    public SaldoSnapshot consultarSaldo() {
+        while (true) {
+            long versaoInicial = versao;
+            if ((versaoInicial & 1) != 0) {
+                Thread.onSpinWait();
+                continue;
+            }
+            
+            long[] saldosLidos = saldosCentavos.clone();
+            LocalDateTime ultimoAcessoLido = ultimoAcesso;
+            long[] totaisCreditadosLidos = totaisCreditadosCentavos.clone();
+            long[] totaisDebitadosLidos = totaisDebitadosCentavos.clone();
+            long quantidadeOperacoesLida = quantidadeOperacoes;
+            
+            VarHandle.loadLoadFence();
+            if (versao == versaoInicial) {
+                return new SaldoSnapshot(versaoInicial, saldosLidos, ultimoAcessoLido,
+                                         totaisCreditadosLidos, totaisDebitadosLidos, quantidadeOperacoesLida);
+            }
+        }
     }
     
     // ===== MÉTODOS DE NEGÓCIO =====
     
     /**
-     * Verifica se o usuário tem saldo suficiente para uma operação
+     * Verifica se o usuário tem saldo suficiente em reais para uma operação
      * @param valor Valor a ser verificado
      * @return true se tem saldo suficiente, false caso contrário
      */
     public boolean temSaldoSuficiente(double valor) {
-        return this.saldo >= valor && valor > 0;
+        return temSaldoSuficiente(Moeda.BRL, Moeda.converterParaCentavos(valor));
     }
     
     /**
-     * Debita um valor do saldo do usuário
+     * Verifica se o usuário tem saldo suficiente em uma moeda
+     * @param moeda Moeda do saldo
+     * @param centavos Valor em centavos
+     * @return true se tem saldo suficiente, false caso contrário
+     */
+    public boolean temSaldoSuficiente(Moeda moeda, long centavos) {
+        return getSaldoCentavos(moeda) >= centavos && centavos > 0;
+    }
+    
+    /**
+     * Debita um valor em reais do saldo do usuário
      * @param valor Valor a ser debitado
      * @return true se a operação foi bem-sucedida
      */
     public boolean debitarSaldo(double valor) {
-        if (temSaldoSuficiente(valor)) {
-            this.saldo -= valor;
-            atualizarUltimoAcesso();
+        return debitarSaldo(Moeda.BRL, Moeda.converterParaCentavos(valor));
+    }
+    
+    /**
+     * Debita um valor do saldo do usuário em uma moeda
+     * @param moeda Moeda do saldo
+     * @param centavos Valor em centavos
+     * @return true se a operação foi bem-sucedida
+     */
+    public synchronized boolean debitarSaldo(Moeda moeda, long centavos) {
+        int indice = moeda.ordinal();
+        if (centavos > 0 && saldosCentavos[indice] >= centavos) {
+            iniciarEscrita();
+            this.saldosCentavos[indice] -= centavos;
+            this.totaisDebitadosCentavos[indice] += centavos;
+            this.quantidadeOperacoes++;
+            this.ultimoAcesso = LocalDateTime.now();
+            finalizarEscrita();
             return true;
         }
         return false;
     }
     
     /**
-     * Credita um valor ao saldo do usuário
+     * Credita um valor em reais ao saldo do usuário
      * @param valor Valor a ser creditado
      */
     public void creditarSaldo(double valor) {
-        if (valor > 0) {
-            this.saldo += valor;
-            atualizarUltimoAcesso();
+        creditarSaldo(Moeda.BRL, Moeda.converterParaCentavos(valor));
+    }
+    
+    /**
+     * Credita um valor ao saldo do usuário em uma moeda
+     * @param moeda Moeda do saldo
+     * @param centavos Valor em centavos
+     */
+    public synchronized void creditarSaldo(Moeda moeda, long centavos) {
+        if (centavos > 0) {
+            int indice = moeda.ordinal();
+            iniciarEscrita();
+            this.saldosCentavos[indice] += centavos;
+            this.totaisCreditadosCentavos[indice] += centavos;
+            this.quantidadeOperacoes++;
+            this.ultimoAcesso = LocalDateTime.now();
+            finalizarEscrita();
         }
     }
     
@@ -109,8 +215,7 @@ public class Usuario {
      * @return Data formatada
      */
     public String getDataCadastroFormatada() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
-        return dataCadastro.format(formatter);
+        return dataCadastro.format(Formatos.DATA_HORA);
     }
     
     /**
@@ -118,13 +223,82 @@ public class Usuario {
      * @return Data formatada
      */
     public String getUltimoAcessoFormatado() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
-        return ultimoAcesso.format(formatter);
+        return getUltimoAcesso().format(Formatos.DATA_HORA);
     }
     
     @Override
     public String toString() {
-        return String.format("👤 Usuário: %s\n📧 Email: %s\n💰 Saldo: R$ %.2f\n📅 Cadastro: %s\n🕐 Último acesso: %s", 
-                           nome, email, saldo, getDataCadastroFormatada(), getUltimoAcessoFormatado());
+        SaldoSnapshot snapshot = consultarSaldo();
+        StringBuilder saldos = new StringBuilder(Moeda.BRL.formatar(snapshot.getSaldoCentavos(Moeda.BRL)));
+        for (Moeda moeda : Moeda.values()) {
+            if (moeda != Moeda.BRL && snapshot.getSaldoCentavos(moeda) != 0) {
+                saldos.append(" | ").append(moeda.formatar(snapshot.getSaldoCentavos(moeda)));
+            }
+        }
+        return String.format("👤 Usuário: %s\n📧 Email: %s\n💰 Saldo: %s\n📅 Cadastro: %s\n🕐 Último acesso: %s", 
+                           nome, email, saldos, getDataCadastroFormatada(),
+                           snapshot.getUltimoAcesso().format(Formatos.DATA_HORA));
+    }
+    
+    // ===== MÉTODOS PRIVADOS =====
+    
+    /**
+     * Lê o saldo de uma única moeda pelo seqlock, sem montar um SaldoSnapshot
+     * Usado no caminho de transferência, que não deve alocar
+     * @param moeda Moeda do saldo
+     * @return Saldo em centavos
+     */
+    private long lerSaldoCentavos(Moeda moeda) {
+        int indice = moeda.ordinal();
+        while (true) {
+            long versaoInicial = versao;
+            if ((versaoInicial & 1) != 0) {
+                Thread.onSpinWait();
+                continue;
+            }
+            
+            long saldoLido = saldosCentavos[indice];
+            
+            VarHandle.loadLoadFence();
+            if (versao == versaoInicial) {
+                return saldoLido;
+            }
+        }
+    }
+    
+    /**
+     * Lê o último acesso pelo seqlock, sem montar um SaldoSnapshot
+     * @return Data e hora do último acesso
+     */
+    private LocalDateTime lerUltimoAcesso() {
+        while (true) {
+            long versaoInicial = versao;
+            if ((versaoInicial & 1) != 0) {
+                Thread.onSpinWait();
+                continue;
+            }
+            
+            LocalDateTime ultimoAcessoLido = ultimoAcesso;
+            
+            VarHandle.loadLoadFence();
+            if (versao == versaoInicial) {
+                return ultimoAcessoLido;
+            }
+        }
+    }
+    
+    /**
+     * Marca o início de uma escrita (versão ímpar); chamado com o lock do objeto
+     */
+    private void iniciarEscrita() {
+        versao = versao + 1;
+        VarHandle.storeStoreFence();
+    }
+    
+    /**
+     * Marca o fim de uma escrita (versão par), liberando os leitores
+     */
+    private void finalizarEscrita() {
+        versao = versao + 1;
     }
 }
@@ -0,0 +1,148 @@
+package fintrack.repository;
+
+import fintrack.model.Usuario;
+import fintrack.util.ValidadorUtil;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Repositório em memória dos usuários cadastrados no FinTrack
+ * A busca exata usa um índice hash (O(1)); a busca por prefixo usa um índice
+ * ordenado por email e a busca por domínio um índice ordenado por domínio, que
+ * reaproveitam as mesmas strings de email como chave, sem chaves concatenadas
+ *
+ * Ordem de publicação: o usuário entra primeiro no índice por domínio (que
+ * decide quem vence cadastros simultâneos do mesmo email), depois no índice
+ * ordenado e por último no índice hash. Assim, todo usuário encontrado pela
+ * busca exata também aparece nas buscas por prefixo e por domínio; por um breve
+ * instante um usuário recém-cadastrado pode aparecer nas buscas por intervalo
+ * antes da exata
+ *
+ * @author Arthur Oliveira Silva
+ * @version 1.0
+ */
+public class UsuarioRepository {
+
+    // Maior caractere possível, usado como limite superior das buscas por prefixo
+    private static final char LIMITE_PREFIXO = '\uffff';
+
+    private final Map<String, Usuario> porEmail;
+    private final ConcurrentSkipListMap<String, Usuario> porEmailOrdenado;
+    private final Map<String, ConcurrentSkipListMap<String, Usuario>> porDominio;
+    private final AtomicInteger quantidade;
+
+    /**
+     * Construtor da classe UsuarioRepository
+     */
+    public UsuarioRepository() {
+        this.porEmail = new ConcurrentHashMap<>();
+        this.porEmailOrdenado = new ConcurrentSkipListMap<>();
+        this.porDominio = new ConcurrentHashMap<>();
+        this.quantidade = new AtomicInteger();
+    }
+
+    /**
+     * Cadastra um usuário, caso o email ainda não exista
+     * @param usuario Usuário a ser cadastrado
+     * @return Usuário já existente com o mesmo email, ou o próprio usuário se for novo
+     */
+    public Usuario salvarSeAusente(Usuario usuario) {
+        String email = ValidadorUtil.formatarEmail(usuario.getEmail());
+        Usuario existente = porEmail.get(email);
+        if (existente != null) {
+            return existente;
+        }
+
+        // O índice por domínio decide o vencedor; o índice hash é publicado por último
+        ConcurrentSkipListMap<String, Usuario> doDominio =
+            porDominio.computeIfAbsent(extrairDominio(email), dominio -> new ConcurrentSkipListMap<>());
+        existente = doDominio.putIfAbsent(email, usuario);
+        if (existente != null) {
+            return existente;
+        }
+
+        porEmailOrdenado.put(email, usuario);
+        porEmail.put(email, usuario);
+        quantidade.incrementAndGet();
+        return usuario;
+    }
+
+    /**
+     * Busca um usuário pelo email exato
+     * @param email Email do usuário
+     * @return Usuário encontrado ou null se não existir
+     */
+    public Usuario buscarPorEmail(String email) {
+        return porEmail.get(ValidadorUtil.formatarEmail(email));
+    }
+
+    /**
+     * Busca usuários cujo email começa com o prefixo informado, em ordem alfabética
+     * @param prefixo Prefixo do email
+     * @param limite Quantidade máxima de resultados (tamanho da página)
+     * @return Lista de usuários encontrados
+     */
+    public List<Usuario> buscarPorPrefixo(String prefixo, int limite) {
+        String prefixoFormatado = ValidadorUtil.formatarEmail(prefixo);
+        return paginar(porEmailOrdenado.subMap(prefixoFormatado, true, prefixoFormatado + LIMITE_PREFIXO, false), limite);
+    }
+
+    /**
+     * Busca usuários de um domínio, ex.: "empresa.com.br" ou "@empresa.com.br"
+     * @param dominio Domínio do email
+     * @param limite Quantidade máxima de resultados (tamanho da página)
+     * @return Lista de usuários encontrados
+     */
+    public List<Usuario> buscarPorDominio(String dominio, int limite) {
+        String dominioFormatado = ValidadorUtil.formatarEmail(dominio);
+        if (dominioFormatado.startsWith("@")) {
+            dominioFormatado = dominioFormatado.substring(1);
+        }
+        ConcurrentSkipListMap<String, Usuario> doDominio = porDominio.get(dominioFormatado);
+        return doDominio != null ? paginar(doDominio, limite) : Collections.emptyList();
+    }
+
+    /**
+     * Lista todos os usuários cadastrados
+     * @return Lista com todos os usuários
+     */
+    public List<Usuario> listarTodos() {
+        return new ArrayList<>(porEmailOrdenado.values());
+    }
+
+    /**
+     * Obtém a quantidade de usuários cadastrados
+     * @return Número de usuários
+     */
+    public int getQuantidade() {
+        return quantidade.get();
+    }
+
+    // ===== MÉTODOS PRIVADOS =====
+
+    /**
+     * Copia no máximo {@code limite} usuários do intervalo, sem percorrer o restante
+     * @param intervalo Intervalo ordenado do índice
+     * @param limite Quantidade máxima de resultados
+     * @return Lista de usuários
+     */
+    private List<Usuario> paginar(NavigableMap<String, Usuario> intervalo, int limite) {
+        List<Usuario> resultado = new ArrayList<>(Math.max(0, Math.min(limite, 64)));
+        for (Usuario usuario : intervalo.values()) {
+            if (resultado.size() >= limite) break;
+            resultado.add(usuario);
+        }
+        return resultado;
+    }
+
+    private static String extrairDominio(String email) {
+        int arroba = email.lastIndexOf('@');
+        return arroba >= 0 ? email.substring(arroba + 1) : "";
+    }
+}
@@ -1,7 +1,17 @@
 package fintrack.service;
 
+import fintrack.audit.JournalAuditoria;
+import fintrack.event.BarramentoEventosSaldo;
+import fintrack.event.EventoSaldo;
+import fintrack.model.Moeda;
+import fintrack.model.SaldoSnapshot;
 import fintrack.model.Usuario;
+import fintrack.repository.UsuarioRepository;
 import fintrack.util.ValidadorUtil;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -13,6 +23,22 @@ import java.util.List;
  * @version 1.0
  */
 public class UsuarioService {
+    // Banners pré-montados (evita String.repeat a cada exibição)
+    private static final String DIVISOR_SALDO = "===================================";
+    private static final String DIVISOR_HISTORICO = "========================================";
+    // Arquivo de taxas de câmbio (pode ser trocado com -Dfintrack.cambio=caminho)
+    private static final String PROPRIEDADE_ARQUIVO_CAMBIO = "fintrack.cambio";
+    private static final String ARQUIVO_CAMBIO_PADRAO = "cambio.properties";
+    
+    // Tabela de câmbio padrão, compartilhada por todas as sessões e carregada só no primeiro uso
+    private static class CambioPadrao {
+        static final TabelaCambio TABELA = carregarTabelaCambio();
+    }
+    
+    private final UsuarioRepository usuarioRepository;
+    private BarramentoEventosSaldo barramentoEventos;
+    private JournalAuditoria journalAuditoria;
+    private TabelaCambio tabelaCambio;
     private Usuario usuarioAtual;
     private List<String> historicoTransacoes;
     
@@ -20,6 +46,15 @@ public class UsuarioService {
      * Construtor da classe UsuarioService
      */
     public UsuarioService() {
+        this(new UsuarioRepository());
+    }
+    
+    /**
+     * Construtor da classe UsuarioService com repositório compartilhado
+     * @param usuarioRepository Repositório de usuários cadastrados
+     */
+    public UsuarioService(UsuarioRepository usuarioRepository) {
+        this.usuarioRepository = usuarioRepository;
         this.historicoTransacoes = new ArrayList<>();
     }
     
@@ -48,43 +83,96 @@ public class UsuarioService {
             return false;
         }
         
-        // Criar usuário
-        this.usuarioAtual = new Usuario(nomeFormatado, emailFormatado);
+        // Buscar usuário existente; só cria (e aloca) uma conta se o email for novo
+        Usuario usuario = usuarioRepository.buscarPorEmail(emailFormatado);
+        boolean novoUsuario = false;
+        if (usuario == null) {
+            // O lock da conta nova é obtido antes de publicá-la: outra sessão ou o lote só
+            // conseguem operar nela depois que a abertura já estiver no journal
+            Usuario novo = new Usuario(nomeFormatado, emailFormatado);
+            synchronized (novo) {
+                usuario = usuarioRepository.salvarSeAusente(novo);
+                novoUsuario = usuario == novo;
+                if (novoUsuario && journalAuditoria != null) {
+                    journalAuditoria.registrarAbertura(usuario);
+                }
+            }
+        }
+        
+        // O email identifica a conta; o nome informado precisa ser o do titular
+        if (!novoUsuario && !usuario.getNome().equalsIgnoreCase(nomeFormatado)) {
+            System.out.println("❌ Este email já está cadastrado com outro nome!");
+            System.out.println("   • Informe o nome do titular da conta ou use outro email");
+            return false;
+        }
+        this.usuarioAtual = usuario;
+        this.usuarioAtual.atualizarUltimoAcesso();
         this.historicoTransacoes.clear();
         
         System.out.println("✅ Login realizado com sucesso!");
-        System.out.println("👤 Usuário: " + nomeFormatado);
+        System.out.println("👤 Usuário: " + usuarioAtual.getNome());
         System.out.println("📧 Email: " + emailFormatado);
-        System.out.println("💰 Saldo inicial: " + ValidadorUtil.formatarMoeda(usuarioAtual.getSaldo()));
+        System.out.println("💰 Saldo " + (novoUsuario ? "inicial" : "atual") + ": " + ValidadorUtil.formatarMoeda(usuarioAtual.getSaldo()));
         
-        adicionarTransacao("Login realizado - Saldo inicial: " + ValidadorUtil.formatarMoeda(usuarioAtual.getSaldo()));
+        adicionarTransacao("Login realizado - Saldo " + (novoUsuario ? "inicial" : "atual") + ": " + ValidadorUtil.formatarMoeda(usuarioAtual.getSaldo()));
         
         return true;
     }
     
     /**
      * Exibe o saldo atual do usuário
+     * A consulta usa o caminho de leitura sem bloqueio e não altera o histórico
      */
     public void exibirSaldo() {
         if (!verificarUsuarioLogado()) return;
         
-        System.out.println("\n" + "=".repeat(35));
+        SaldoSnapshot snapshot = usuarioAtual.consultarSaldo();
+        
+        System.out.println("\n" + DIVISOR_SALDO);
         System.out.println("💰 CONSULTA DE SALDO");
-        System.out.println("=".repeat(35));
+        System.out.println(DIVISOR_SALDO);
         System.out.println("👤 Usuário: " + usuarioAtual.getNome());
-        System.out.println("💰 Saldo atual: " + ValidadorUtil.formatarMoeda(usuarioAtual.getSaldo()));
-        System.out.println("🕐 Última atualização: " + usuarioAtual.getUltimoAcessoFormatado());
-        
-        adicionarTransacao("Consulta de saldo realizada");
+        System.out.println("💰 Saldo atual: " + ValidadorUtil.formatarMoeda(snapshot.getSaldo()));
+        for (Moeda moeda : Moeda.values()) {
+            if (moeda != Moeda.BRL && snapshot.getSaldoCentavos(moeda) != 0) {
+                System.out.println("💱 Saldo em " + moeda + ": " + ValidadorUtil.formatarMoeda(snapshot.getSaldoCentavos(moeda), moeda));
+            }
+        }
+        System.out.println("📥 Total recebido: " + ValidadorUtil.formatarMoeda(snapshot.getTotalCreditado()));
+        System.out.println("📤 Total enviado: " + ValidadorUtil.formatarMoeda(snapshot.getTotalDebitado()));
+        System.out.println("🕐 Última atualização: " + ValidadorUtil.formatarDataHora(snapshot.getUltimoAcesso()));
     }
     
     /**
-     * Realiza transferência de valor
+     * Consulta o saldo de qualquer usuário cadastrado, sem bloqueio e sem efeitos colaterais
+     * Indicada para painéis e consultas em massa
+     * @param email Email do usuário
+     * @return Fotografia do saldo ou null se o usuário não existir
+     */
+    public SaldoSnapshot consultarSaldo(String email) {
+        Usuario usuario = usuarioRepository.buscarPorEmail(email);
+        return usuario != null ? usuario.consultarSaldo() : null;
+    }
+    
+    /**
+     * Realiza transferência de valor em reais
      * @param valor Valor a ser transferido
      * @param destino Destino da transferência
      * @return true se transferência bem-sucedida, false caso contrário
      */
     public boolean realizarTransferencia(double valor, String destino) {
+        return realizarTransferencia(valor, Moeda.BRL, Moeda.BRL, destino);
+    }
+    
+    /**
+     * Realiza transferência de valor, convertendo entre moedas se necessário
+     * @param valor Valor que o destino recebe, na moeda de destino
+     * @param moedaConta Moeda do saldo a ser debitado
+     * @param moedaDestino Moeda em que o destino recebe
+     * @param destino Destino da transferência
+     * @return true se transferência bem-sucedida, false caso contrário
+     */
+    public boolean realizarTransferencia(double valor, Moeda moedaConta, Moeda moedaDestino, String destino) {
         if (!verificarUsuarioLogado()) return false;
         
         // Validar valor
@@ -95,41 +183,90 @@ public class UsuarioService {
             return false;
         }
         
+        // Validar valor em centavos (frações de centavo arredondariam para zero)
+        long centavosDestino = ValidadorUtil.converterParaCentavos(valor);
+        if (centavosDestino <= 0) {
+            System.out.println("❌ Valor inválido!");
+            System.out.println("   • Mínimo permitido: " + ValidadorUtil.formatarMoeda(1, moedaDestino));
+            return false;
+        }
+        
         // Validar destino
         if (!ValidadorUtil.validarTextoNaoVazio(destino)) {
             System.out.println("❌ Destino da transferência não pode estar vazio!");
             return false;
         }
         
-        // Verificar saldo
-        if (!usuarioAtual.temSaldoSuficiente(valor)) {
-            System.out.println("❌ Saldo insuficiente!");
-            System.out.println("💰 Saldo disponível: " + ValidadorUtil.formatarMoeda(usuarioAtual.getSaldo()));
-            System.out.println("💸 Valor solicitado: " + ValidadorUtil.formatarMoeda(valor));
+        // Converter para a moeda da conta (na mesma moeda a tabela nem é consultada)
+        long centavosDebito = centavosDestino;
+        if (moedaDestino != moedaConta) {
+            TabelaCambio tabela = getTabelaCambio();
+            if (!tabela.suporta(moedaDestino, moedaConta)) {
+                System.out.println("❌ Câmbio indisponível de " + moedaDestino + " para " + moedaConta + "!");
+                return false;
+            }
+            centavosDebito = tabela.converter(centavosDestino, moedaDestino, moedaConta);
+        }
+        if (centavosDebito <= 0) {
+            System.out.println("❌ Valor inválido!");
+            System.out.println("   • Convertido para " + moedaConta + " fica abaixo de " + ValidadorUtil.formatarMoeda(1, moedaConta));
             return false;
         }
         
-        // Realizar transferência
-        if (usuarioAtual.debitarSaldo(valor)) {
-            System.out.println("✅ Transferência realizada com sucesso!");
-            System.out.println("💸 Valor transferido: " + ValidadorUtil.formatarMoeda(valor));
-            System.out.println("🎯 Destino: " + destino);
-            System.out.println("💰 Novo saldo: " + ValidadorUtil.formatarMoeda(usuarioAtual.getSaldo()));
+        // Verificar saldo e realizar transferência com o lock da conta, para que o
+        // journal registre exatamente o saldo resultante desta operação
+        long saldoResultante;
+        long sequenciaEvento;
+        synchronized (usuarioAtual) {
+            long saldoDisponivel = usuarioAtual.getSaldoCentavos(moedaConta);
+            if (!usuarioAtual.temSaldoSuficiente(moedaConta, centavosDebito)) {
+                System.out.println("❌ Saldo insuficiente!");
+                System.out.println("💰 Saldo disponível: " + ValidadorUtil.formatarMoeda(saldoDisponivel, moedaConta));
+                System.out.println("💸 Valor solicitado: " + ValidadorUtil.formatarMoeda(centavosDebito, moedaConta));
+                return false;
+            }
             
-            adicionarTransacao("Transferência: " + ValidadorUtil.formatarMoeda(valor) + " para " + destino);
-            return true;
+            saldoResultante = saldoDisponivel - centavosDebito;
+            if (journalAuditoria != null) {
+                journalAuditoria.registrarDebito(usuarioAtual, moedaConta, centavosDebito, saldoResultante);
+            }
+            usuarioAtual.debitarSaldo(moedaConta, centavosDebito);
+            sequenciaEvento = reservarEvento();
+        }
+        
+        publicarEvento(sequenciaEvento, EventoSaldo.Tipo.DEBITO, moedaConta, centavosDebito, saldoResultante, destino);
+        
+        String valorTransferido = ValidadorUtil.formatarMoeda(centavosDestino, moedaDestino);
+        System.out.println("✅ Transferência realizada com sucesso!");
+        System.out.println("💸 Valor transferido: " + valorTransferido);
+        if (moedaConta != moedaDestino) {
+            System.out.println("💱 Valor debitado: " + ValidadorUtil.formatarMoeda(centavosDebito, moedaConta));
         }
+        System.out.println("🎯 Destino: " + destino);
+        System.out.println("💰 Novo saldo: " + ValidadorUtil.formatarMoeda(saldoResultante, moedaConta));
         
-        return false;
+        adicionarTransacao("Transferência: " + valorTransferido + " para " + destino);
+        return true;
     }
     
     /**
-     * Simula recebimento de dinheiro
+     * Simula recebimento de dinheiro em reais
      * @param valor Valor recebido
      * @param origem Origem do dinheiro
      * @return true se operação bem-sucedida, false caso contrário
      */
     public boolean receberDinheiro(double valor, String origem) {
+        return receberDinheiro(valor, Moeda.BRL, origem);
+    }
+    
+    /**
+     * Simula recebimento de dinheiro em uma moeda
+     * @param valor Valor recebido
+     * @param moeda Moeda do valor (creditado no saldo dessa moeda)
+     * @param origem Origem do dinheiro
+     * @return true se operação bem-sucedida, false caso contrário
+     */
+    public boolean receberDinheiro(double valor, Moeda moeda, String origem) {
         if (!verificarUsuarioLogado()) return false;
         
         // Validar valor
@@ -140,20 +277,41 @@ public class UsuarioService {
             return false;
         }
         
+        // Validar valor em centavos (frações de centavo arredondariam para zero)
+        long centavos = ValidadorUtil.converterParaCentavos(valor);
+        if (centavos <= 0) {
+            System.out.println("❌ Valor inválido!");
+            System.out.println("   • Mínimo permitido: " + ValidadorUtil.formatarMoeda(1, moeda));
+            return false;
+        }
+        
         // Validar origem
         if (!ValidadorUtil.validarTextoNaoVazio(origem)) {
             System.out.println("❌ Origem do dinheiro não pode estar vazia!");
             return false;
         }
         
-        // Receber dinheiro
-        usuarioAtual.creditarSaldo(valor);
+        // Receber dinheiro com o lock da conta, para que o journal registre
+        // exatamente o saldo resultante desta operação
+        long saldoResultante;
+        long sequenciaEvento;
+        synchronized (usuarioAtual) {
+            saldoResultante = usuarioAtual.getSaldoCentavos(moeda) + centavos;
+            if (journalAuditoria != null) {
+                journalAuditoria.registrarCredito(usuarioAtual, moeda, centavos, saldoResultante);
+            }
+            usuarioAtual.creditarSaldo(moeda, centavos);
+            sequenciaEvento = reservarEvento();
+        }
+        publicarEvento(sequenciaEvento, EventoSaldo.Tipo.CREDITO, moeda, centavos, saldoResultante, origem);
+        
+        String valorRecebido = ValidadorUtil.formatarMoeda(centavos, moeda);
         System.out.println("✅ Dinheiro recebido com sucesso!");
-        System.out.println("💵 Valor recebido: " + ValidadorUtil.formatarMoeda(valor));
+        System.out.println("💵 Valor recebido: " + valorRecebido);
         System.out.println("📤 Origem: " + origem);
-        System.out.println("💰 Novo saldo: " + ValidadorUtil.formatarMoeda(usuarioAtual.getSaldo()));
+        System.out.println("💰 Novo saldo: " + ValidadorUtil.formatarMoeda(saldoResultante, moeda));
         
-        adicionarTransacao("Recebimento: " + ValidadorUtil.formatarMoeda(valor) + " de " + origem);
+        adicionarTransacao("Recebimento: " + valorRecebido + " de " + origem);
         return true;
     }
     
@@ -163,9 +321,9 @@ public class UsuarioService {
     public void exibirHistoricoTransacoes() {
         if (!verificarUsuarioLogado()) return;
         
-        System.out.println("\n" + "=".repeat(40));
+        System.out.println("\n" + DIVISOR_HISTORICO);
         System.out.println("📋 HISTÓRICO DE TRANSAÇÕES");
-        System.out.println("=".repeat(40));
+        System.out.println(DIVISOR_HISTORICO);
         
         if (historicoTransacoes.isEmpty()) {
             System.out.println("📭 Nenhuma transação realizada ainda.");
@@ -184,6 +342,78 @@ public class UsuarioService {
         return usuarioAtual;
     }
     
+    /**
+     * Busca um usuário cadastrado pelo email exato
+     * @param email Email do usuário
+     * @return Usuário encontrado ou null se não existir
+     */
+    public Usuario buscarUsuarioPorEmail(String email) {
+        return usuarioRepository.buscarPorEmail(email);
+    }
+    
+    /**
+     * Busca usuários cadastrados cujo email começa com o prefixo informado
+     * @param prefixo Prefixo do email
+     * @param limite Quantidade máxima de resultados
+     * @return Lista de usuários encontrados
+     */
+    public List<Usuario> buscarUsuariosPorPrefixo(String prefixo, int limite) {
+        return usuarioRepository.buscarPorPrefixo(prefixo, limite);
+    }
+    
+    /**
+     * Busca usuários cadastrados de um domínio de email
+     * @param dominio Domínio, ex.: "@empresa.com.br"
+     * @param limite Quantidade máxima de resultados
+     * @return Lista de usuários encontrados
+     */
+    public List<Usuario> buscarUsuariosPorDominio(String dominio, int limite) {
+        return usuarioRepository.buscarPorDominio(dominio, limite);
+    }
+    
+    /**
+     * Obtém o repositório de usuários cadastrados
+     * @return Repositório de usuários
+     */
+    public UsuarioRepository getUsuarioRepository() {
+        return usuarioRepository;
+    }
+    
+    /**
+     * Define o barramento que recebe as alterações de saldo
+     * @param barramentoEventos Barramento de eventos ou null para desativar
+     */
+    public void setBarramentoEventos(BarramentoEventosSaldo barramentoEventos) {
+        this.barramentoEventos = barramentoEventos;
+    }
+    
+    /**
+     * Define o journal de auditoria que registra aberturas, débitos e créditos
+     * @param journalAuditoria Journal de auditoria ou null para desativar
+     */
+    public void setJournalAuditoria(JournalAuditoria journalAuditoria) {
+        this.journalAuditoria = journalAuditoria;
+    }
+    
+    /**
+     * Define a tabela de câmbio usada nas transferências entre moedas desta sessão
+     * Sem tabela definida, vale a tabela padrão compartilhada
+     * @param tabelaCambio Tabela de câmbio
+     */
+    public void setTabelaCambio(TabelaCambio tabelaCambio) {
+        this.tabelaCambio = tabelaCambio;
+    }
+    
+    /**
+     * Obtém a tabela de câmbio desta sessão ou, sem uma definida, a tabela padrão
+     * compartilhada, carregada do arquivo local no primeiro uso por qualquer sessão
+     * (fora da inicialização). Sem arquivo válido, só há taxas identidade
+     * @return Tabela de câmbio
+     */
+    public TabelaCambio getTabelaCambio() {
+        return tabelaCambio != null ? tabelaCambio : CambioPadrao.TABELA;
+    }
+    
     /**
      * Verifica se há usuário logado no sistema
      * @return true se há usuário logado, false caso contrário
@@ -197,6 +427,10 @@ public class UsuarioService {
      */
     public void logout() {
         if (usuarioAtual != null) {
+            // Checkpoint do saldo ao fim da sessão: revela alterações feitas sem registro
+            if (journalAuditoria != null) {
+                journalAuditoria.registrarCheckpoint(usuarioAtual);
+            }
             adicionarTransacao("Logout realizado");
             System.out.println("👋 Logout realizado com sucesso!");
             System.out.println("🔒 Sessão encerrada para: " + usuarioAtual.getNome());
@@ -219,13 +453,56 @@ public class UsuarioService {
         return true;
     }
     
+    /**
+     * Carrega a tabela de câmbio do arquivo configurado
+     * @return Tabela carregada, ou só com taxas identidade se o arquivo faltar ou for inválido
+     */
+    private static TabelaCambio carregarTabelaCambio() {
+        Path arquivo = Paths.get(System.getProperty(PROPRIEDADE_ARQUIVO_CAMBIO, ARQUIVO_CAMBIO_PADRAO));
+        if (!Files.isReadable(arquivo)) {
+            System.out.println("⚠️  Arquivo de câmbio não encontrado: " + arquivo + " (apenas conversões na mesma moeda)");
+            return new TabelaCambio();
+        }
+        try {
+            return TabelaCambio.carregar(arquivo);
+        } catch (IOException | IllegalArgumentException e) {
+            System.out.println("⚠️  Erro ao carregar câmbio de " + arquivo + ": " + e.getMessage());
+            return new TabelaCambio();
+        }
+    }
+    
+    /**
+     * Reserva a posição do evento no barramento; chamado com o lock da conta, para que
+     * os eventos de uma conta saiam na mesma ordem em que o saldo foi alterado
+     * @return Sequência reservada, ou -1 sem barramento configurado
+     */
+    private long reservarEvento() {
+        return barramentoEventos != null ? barramentoEventos.reservarSequencia() : -1;
+    }
+    
+    /**
+     * Publica a alteração de saldo do usuário atual na sequência reservada, fora do lock da conta
+     * @param sequencia Sequência reservada por {@link #reservarEvento()}
+     * @param tipo Tipo da alteração
+     * @param moeda Moeda do saldo alterado
+     * @param valorCentavos Valor movimentado, em centavos
+     * @param saldoResultanteCentavos Saldo da moeda após a operação, em centavos
+     * @param contraparte Origem ou destino da operação
+     */
+    private void publicarEvento(long sequencia, EventoSaldo.Tipo tipo, Moeda moeda, long valorCentavos,
+                                long saldoResultanteCentavos, String contraparte) {
+        if (barramentoEventos != null) {
+            barramentoEventos.publicar(sequencia, tipo, usuarioAtual.getEmail(), moeda, valorCentavos / 100.0,
+                                       saldoResultanteCentavos / 100.0, contraparte);
+        }
+    }
+    
     /**
      * Adiciona uma transação ao histórico
      * @param transacao Descrição da transação
      */
     private void adicionarTransacao(String transacao) {
-        String transacaoCompleta = java.time.LocalDateTime.now()
-            .format(java.time.format.DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm")) 
+        String transacaoCompleta = ValidadorUtil.formatarDataHora(java.time.LocalDateTime.now())
             + " - " + transacao;
         historicoTransacoes.add(transacaoCompleta);
         
@@ -1,5 +1,8 @@
 package fintrack.util;
 
+import fintrack.model.Moeda;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.regex.Pattern;
 
 /**
@@ -13,7 +16,24 @@ public class ValidadorUtil {
     
     // Regex para validação de email
     private static final String EMAIL_REGEX = "^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}$";
-    private static final Pattern EMAIL_PATTERN = Pattern.compile(EMAIL_REGEX);
+    // Regex para validação de nome: apenas letras e espaços
+    private static final String NOME_REGEX = "^[a-zA-ZÀ-ÿ\\s]+$";
+    
+    /**
+     * Padrões compilados sob demanda, no primeiro uso (idioma do holder),
+     * para não pesar na inicialização da aplicação
+     */
+    private static class Padroes {
+        static final Pattern EMAIL = Pattern.compile(EMAIL_REGEX);
+        static final Pattern NOME = Pattern.compile(NOME_REGEX);
+    }
+    
+    /**
+     * Formatador de data criado sob demanda, no primeiro uso
+     */
+    private static class Formatos {
+        static final DateTimeFormatter DATA_HORA = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
+    }
     
     /**
      * Valida se o nome é válido
@@ -25,7 +45,7 @@ public class ValidadorUtil {
                !nome.trim().isEmpty() && 
                nome.trim().length() >= 2 && 
                nome.trim().length() <= 50 &&
-               nome.matches("^[a-zA-ZÀ-ÿ\\s]+$"); // Apenas letras e espaços
+               Padroes.NOME.matcher(nome).matches(); // Apenas letras e espaços
     }
     
     /**
@@ -36,7 +56,7 @@ public class ValidadorUtil {
     public static boolean validarEmail(String email) {
         return email != null && 
                !email.trim().isEmpty() && 
-               EMAIL_PATTERN.matcher(email.trim()).matches();
+               Padroes.EMAIL.matcher(email.trim()).matches();
     }
     
     /**
@@ -63,7 +83,40 @@ public class ValidadorUtil {
      * @return String formatada com R$
      */
     public static String formatarMoeda(double valor) {
-        return String.format("R$ %.2f", valor);
+        long centavos = converterParaCentavos(valor);
+        // Mantém a saída de String.format("R$ %.2f") para NaN, infinito e negativos que arredondam a zero
+        if (!Double.isFinite(valor) || (centavos == 0 && Double.compare(valor, 0.0) < 0)) {
+            return String.format("R$ %.2f", valor);
+        }
+        return formatarMoeda(centavos, Moeda.BRL);
+    }
+    
+    /**
+     * Formata valor em centavos com o símbolo da moeda, sem String.format
+     * @param centavos Valor em centavos
+     * @param moeda Moeda do valor
+     * @return String formatada, ex.: "US$ 10.50"
+     */
+    public static String formatarMoeda(long centavos, Moeda moeda) {
+        return moeda.formatar(centavos);
+    }
+    
+    /**
+     * Converte valor monetário para centavos, arredondando para o mais próximo
+     * @param valor Valor a ser convertido
+     * @return Valor em centavos
+     */
+    public static long converterParaCentavos(double valor) {
+        return Moeda.converterParaCentavos(valor);
+    }
+    
+    /**
+     * Formata data e hora para exibição
+     * @param dataHora Data e hora a ser formatada
+     * @return String no formato dd/MM/yyyy HH:mm
+     */
+    public static String formatarDataHora(LocalDateTime dataHora) {
+        return dataHora.format(Formatos.DATA_HORA);
     }
     
     /**
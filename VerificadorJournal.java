@@ -0,0 +1,416 @@
+package fintrack.audit;
+
+import fintrack.model.Moeda;
+import fintrack.model.Usuario;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Verificador paralelo do {@link JournalAuditoria}
+ * Uma thread lê o arquivo sequencialmente e distribui os registros em lotes
+ * entre trabalhadores, particionando por conta. Cada trabalhador recalcula a
+ * cadeia de hash e o saldo de suas contas, de modo que o custo de CPU se
+ * divide entre os núcleos e a leitura do disco passa a ser o gargalo
+ *
+ * @author Arthur Oliveira Silva
+ * @version 1.0
+ */
+public class VerificadorJournal {
+
+    private static final int TAMANHO_LOTE = 4096;
+    private static final int LOTES_EM_FILA = 8;
+    private static final int MAXIMO_DIVERGENCIAS_GUARDADAS = 1000;
+    private static final List<LeitorJournal.Registro> FIM = Collections.emptyList();
+
+    /**
+     * Tipos de divergência encontrados na verificação
+     */
+    public enum TipoDivergencia {
+        HASH_INVALIDO, SEQUENCIA_INVALIDA, SEM_ABERTURA, SALDO_DIVERGENTE, REGISTRO_INCOMPLETO
+    }
+
+    /**
+     * Divergência encontrada em uma conta
+     */
+    public static class Divergencia {
+        private final TipoDivergencia tipo;
+        private final String email;
+        private final long sequencia;
+        private final String descricao;
+
+        Divergencia(TipoDivergencia tipo, String email, long sequencia, String descricao) {
+            this.tipo = tipo;
+            this.email = email;
+            this.sequencia = sequencia;
+            this.descricao = descricao;
+        }
+
+        public TipoDivergencia getTipo() {
+            return tipo;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+
+        public long getSequencia() {
+            return sequencia;
+        }
+
+        public String getDescricao() {
+            return descricao;
+        }
+
+        @Override
+        public String toString() {
+            return tipo + " [" + email + " #" + sequencia + "] " + descricao;
+        }
+    }
+
+    /**
+     * Resultado de uma verificação
+     */
+    public static class ResultadoVerificacao {
+        private final long totalRegistros;
+        private final long totalDivergencias;
+        private final List<Divergencia> divergencias;
+        private final Map<String, long[]> saldosDerivadosCentavos;
+
+        ResultadoVerificacao(long totalRegistros, long totalDivergencias, List<Divergencia> divergencias,
+                             Map<String, long[]> saldosDerivadosCentavos) {
+            this.totalRegistros = totalRegistros;
+            this.totalDivergencias = totalDivergencias;
+            this.divergencias = divergencias;
+            this.saldosDerivadosCentavos = saldosDerivadosCentavos;
+        }
+
+        public long getTotalRegistros() {
+            return totalRegistros;
+        }
+
+        public int getTotalContas() {
+            return saldosDerivadosCentavos.size();
+        }
+
+        /**
+         * Obtém o total de divergências, inclusive as não guardadas na lista
+         * @return Número de divergências
+         */
+        public long getTotalDivergencias() {
+            return totalDivergencias;
+        }
+
+        /**
+         * Obtém as divergências guardadas (no máximo 1000)
+         * @return Lista de divergências
+         */
+        public List<Divergencia> getDivergencias() {
+            return Collections.unmodifiableList(divergencias);
+        }
+
+        public boolean isIntegro() {
+            return totalDivergencias == 0;
+        }
+
+        /**
+         * Obtém o saldo em reais derivado do journal para uma conta
+         * @param email Email da conta
+         * @return Saldo derivado ou null se a conta não aparece no journal
+         */
+        public Double getSaldoDerivado(String email) {
+            return getSaldoDerivado(email, Moeda.BRL);
+        }
+
+        /**
+         * Obtém o saldo derivado do journal para uma conta em uma moeda
+         * @param email Email da conta
+         * @param moeda Moeda do saldo
+         * @return Saldo derivado ou null se a conta não aparece no journal
+         */
+        public Double getSaldoDerivado(String email, Moeda moeda) {
+            long[] centavos = saldosDerivadosCentavos.get(email);
+            return centavos != null ? centavos[moeda.ordinal()] / 100.0 : null;
+        }
+
+        /**
+         * Compara os saldos derivados do journal com os saldos atuais das contas
+         * @param contas Contas a comparar
+         * @return Divergências encontradas (contas ausentes do journal também são reportadas)
+         */
+        public List<Divergencia> compararComContas(Collection<Usuario> contas) {
+            List<Divergencia> resultado = new ArrayList<>();
+            for (Usuario conta : contas) {
+                long[] derivados = saldosDerivadosCentavos.get(conta.getEmail());
+                if (derivados == null) {
+                    resultado.add(new Divergencia(TipoDivergencia.SEM_ABERTURA, conta.getEmail(), -1,
+                                                  "Conta sem registros no journal"));
+                    continue;
+                }
+                for (Moeda moeda : Moeda.values()) {
+                    long derivado = derivados[moeda.ordinal()];
+                    long atual = conta.getSaldoCentavos(moeda);
+                    if (derivado != atual) {
+                        resultado.add(new Divergencia(TipoDivergencia.SALDO_DIVERGENTE, conta.getEmail(), -1,
+                                                      "Saldo atual " + moeda + " " + atual / 100.0
+                                                      + " difere do journal " + derivado / 100.0));
+                    }
+                }
+            }
+            return resultado;
+        }
+    }
+
+    private final int paralelismo;
+
+    /**
+     * Construtor da classe VerificadorJournal usando todos os núcleos disponíveis
+     */
+    public VerificadorJournal() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Construtor da classe VerificadorJournal
+     * @param paralelismo Quantidade de trabalhadores
+     */
+    public VerificadorJournal(int paralelismo) {
+        if (paralelismo <= 0) {
+            throw new IllegalArgumentException("Paralelismo deve ser maior que zero");
+        }
+        this.paralelismo = paralelismo;
+    }
+
+    /**
+     * Verifica o journal inteiro
+     * A sequência global não tem lacunas, então registros removidos do meio do
+     * arquivo são detectados; para detectar remoções no fim do arquivo, use
+     * {@link #verificar(Path, long)} com a quantidade esperada de registros
+     * @param arquivo Caminho do arquivo do journal
+     * @return Resultado da verificação
+     * @throws IOException se o arquivo não puder ser lido
+     * @throws InterruptedException se a verificação for interrompida
+     */
+    public ResultadoVerificacao verificar(Path arquivo) throws IOException, InterruptedException {
+        return verificar(arquivo, -1);
+    }
+
+    /**
+     * Verifica o journal inteiro, conferindo também a quantidade de registros
+     * @param arquivo Caminho do arquivo do journal
+     * @param registrosEsperados Quantidade esperada (ex.: {@link JournalAuditoria#getTotalRegistros()}),
+     *                           ou -1 para não conferir
+     * @return Resultado da verificação
+     * @throws IOException se o arquivo não puder ser lido
+     * @throws InterruptedException se a verificação for interrompida
+     */
+    public ResultadoVerificacao verificar(Path arquivo, long registrosEsperados) throws IOException, InterruptedException {
+        List<Divergencia> divergencias = Collections.synchronizedList(new ArrayList<>());
+        AtomicLong totalDivergencias = new AtomicLong();
+        Map<String, long[]> saldosDerivados = new ConcurrentHashMap<>();
+
+        Trabalhador[] trabalhadores = new Trabalhador[paralelismo];
+        Thread[] threads = new Thread[paralelismo];
+        for (int i = 0; i < paralelismo; i++) {
+            trabalhadores[i] = new Trabalhador(divergencias, totalDivergencias, saldosDerivados);
+            threads[i] = new Thread(trabalhadores[i], "fintrack-verificador-" + i);
+            threads[i].start();
+        }
+
+        long totalRegistros = 0;
+        try (LeitorJournal leitor = new LeitorJournal(arquivo)) {
+            List<List<LeitorJournal.Registro>> lotes = new ArrayList<>(paralelismo);
+            for (int i = 0; i < paralelismo; i++) {
+                lotes.add(new ArrayList<>(TAMANHO_LOTE));
+            }
+
+            long sequenciaAnterior = -1;
+            LeitorJournal.Registro registro;
+            while ((registro = proximoRegistro(leitor, sequenciaAnterior, divergencias, totalDivergencias)) != null) {
+                totalRegistros++;
+                if (registro.sequencia != sequenciaAnterior + 1) {
+                    registrarDivergencia(divergencias, totalDivergencias, new Divergencia(TipoDivergencia.SEQUENCIA_INVALIDA,
+                        new String(registro.emailBytes, StandardCharsets.UTF_8), registro.sequencia,
+                        "Sequência esperada " + (sequenciaAnterior + 1) + " (registro ausente ou fora de ordem)"));
+                }
+                sequenciaAnterior = registro.sequencia;
+
+                int particao = (Arrays.hashCode(registro.emailBytes) & 0x7fffffff) % paralelismo;
+                List<LeitorJournal.Registro> lote = lotes.get(particao);
+                lote.add(registro);
+                if (lote.size() == TAMANHO_LOTE) {
+                    trabalhadores[particao].fila.put(lote);
+                    lotes.set(particao, new ArrayList<>(TAMANHO_LOTE));
+                }
+            }
+
+            for (int i = 0; i < paralelismo; i++) {
+                if (!lotes.get(i).isEmpty()) {
+                    trabalhadores[i].fila.put(lotes.get(i));
+                }
+            }
+
+            if (totalRegistros != sequenciaAnterior + 1) {
+                registrarDivergencia(divergencias, totalDivergencias, new Divergencia(TipoDivergencia.SEQUENCIA_INVALIDA,
+                    "-", sequenciaAnterior, totalRegistros + " registros lidos, mas a última sequência é " + sequenciaAnterior));
+            }
+            if (registrosEsperados >= 0 && totalRegistros != registrosEsperados) {
+                registrarDivergencia(divergencias, totalDivergencias, new Divergencia(TipoDivergencia.SEQUENCIA_INVALIDA,
+                    "-", sequenciaAnterior, totalRegistros + " registros lidos, " + registrosEsperados + " esperados"));
+            }
+        } finally {
+            for (Trabalhador trabalhador : trabalhadores) {
+                trabalhador.fila.put(FIM);
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+        }
+
+        return new ResultadoVerificacao(totalRegistros, totalDivergencias.get(), divergencias, saldosDerivados);
+    }
+
+    // ===== MÉTODOS PRIVADOS =====
+
+    /**
+     * Lê o próximo registro, tratando um registro final incompleto como divergência
+     * @return Registro lido ou null no fim dos registros completos
+     */
+    private static LeitorJournal.Registro proximoRegistro(LeitorJournal leitor, long sequenciaAnterior,
+                                                          List<Divergencia> divergencias, AtomicLong total) throws IOException {
+        try {
+            return leitor.proximo();
+        } catch (LeitorJournal.RegistroIncompletoException e) {
+            registrarDivergencia(divergencias, total, new Divergencia(TipoDivergencia.REGISTRO_INCOMPLETO, "-",
+                                                                      sequenciaAnterior + 1, e.getMessage()));
+            return null;
+        }
+    }
+
+    private static void registrarDivergencia(List<Divergencia> divergencias, AtomicLong total, Divergencia divergencia) {
+        if (total.incrementAndGet() <= MAXIMO_DIVERGENCIAS_GUARDADAS) {
+            divergencias.add(divergencia);
+        }
+    }
+
+    /**
+     * Estado derivado de uma conta durante a verificação
+     */
+    private static class EstadoConta {
+        byte[] ultimoHash = JournalAuditoria.HASH_INICIAL;
+        // Saldos derivados indexados pelo ordinal da Moeda
+        final long[] saldosCentavos = new long[Moeda.quantidade()];
+        boolean aberta;
+    }
+
+    /**
+     * Trabalhador que verifica as contas de uma partição
+     */
+    private static class Trabalhador implements Runnable {
+        private final BlockingQueue<List<LeitorJournal.Registro>> fila;
+        private final List<Divergencia> divergencias;
+        private final AtomicLong totalDivergencias;
+        private final Map<String, long[]> saldosDerivados;
+        private final Map<String, EstadoConta> contas;
+        private final MessageDigest digest;
+
+        Trabalhador(List<Divergencia> divergencias, AtomicLong totalDivergencias, Map<String, long[]> saldosDerivados) {
+            this.fila = new ArrayBlockingQueue<>(LOTES_EM_FILA);
+            this.divergencias = divergencias;
+            this.totalDivergencias = totalDivergencias;
+            this.saldosDerivados = saldosDerivados;
+            this.contas = new HashMap<>();
+            this.digest = JournalAuditoria.novoDigest();
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (true) {
+                    List<LeitorJournal.Registro> lote = fila.take();
+                    if (lote == FIM) break;
+                    for (LeitorJournal.Registro registro : lote) {
+                        verificarRegistro(registro);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            for (Map.Entry<String, EstadoConta> conta : contas.entrySet()) {
+                saldosDerivados.put(conta.getKey(), conta.getValue().saldosCentavos);
+            }
+        }
+
+        private void verificarRegistro(LeitorJournal.Registro registro) {
+            String email = new String(registro.emailBytes, StandardCharsets.UTF_8);
+            EstadoConta estado = contas.computeIfAbsent(email, chave -> new EstadoConta());
+
+            byte[] esperado = JournalAuditoria.calcularHash(digest, estado.ultimoHash, registro.tipo, registro.moeda,
+                                                            registro.emailBytes, registro.valorCentavos,
+                                                            registro.saldoCentavos, registro.sequencia);
+            if (!MessageDigest.isEqual(esperado, registro.hash)) {
+                divergir(TipoDivergencia.HASH_INVALIDO, email, registro.sequencia, "Registro adulterado ou fora da cadeia");
+            }
+            estado.ultimoHash = registro.hash;
+
+            int moeda = registro.moeda.ordinal();
+            switch (registro.tipo) {
+                case ABERTURA:
+                    estado.aberta = true;
+                    estado.saldosCentavos[moeda] = registro.valorCentavos;
+                    break;
+                case CREDITO:
+                    verificarAbertura(estado, email, registro);
+                    estado.saldosCentavos[moeda] += registro.valorCentavos;
+                    verificarSaldo(estado, email, registro, "Saldo após crédito");
+                    break;
+                case DEBITO:
+                    verificarAbertura(estado, email, registro);
+                    estado.saldosCentavos[moeda] -= registro.valorCentavos;
+                    verificarSaldo(estado, email, registro, "Saldo após débito");
+                    break;
+                default:
+                    verificarAbertura(estado, email, registro);
+                    verificarSaldo(estado, email, registro, "Checkpoint");
+            }
+        }
+
+        /**
+         * Compara o saldo gravado no registro com o saldo derivado da conta
+         * Em caso de divergência continua a partir do saldo gravado, para não repetir a mesma divergência
+         */
+        private void verificarSaldo(EstadoConta estado, String email, LeitorJournal.Registro registro, String descricao) {
+            int moeda = registro.moeda.ordinal();
+            if (registro.saldoCentavos != estado.saldosCentavos[moeda]) {
+                divergir(TipoDivergencia.SALDO_DIVERGENTE, email, registro.sequencia,
+                         descricao + " " + registro.moeda + " " + registro.saldoCentavos / 100.0
+                         + " difere do saldo derivado " + estado.saldosCentavos[moeda] / 100.0);
+                estado.saldosCentavos[moeda] = registro.saldoCentavos;
+            }
+        }
+
+        private void verificarAbertura(EstadoConta estado, String email, LeitorJournal.Registro registro) {
+            if (!estado.aberta) {
+                divergir(TipoDivergencia.SEM_ABERTURA, email, registro.sequencia, "Operação em conta sem registro de abertura");
+                estado.aberta = true;
+            }
+        }
+
+        private void divergir(TipoDivergencia tipo, String email, long sequencia, String descricao) {
+            registrarDivergencia(divergencias, totalDivergencias, new Divergencia(tipo, email, sequencia, descricao));
+        }
+    }
+}
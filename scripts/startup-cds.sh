@@ -0,0 +1,78 @@
+#!/usr/bin/env bash
+# Compila o FinTrack, gera os arquivos AppCDS (class-data sharing) e compara
+# o tempo de inicialização com o CDS padrão do JDK (-Xshare:auto) e com o
+# arquivo AppCDS de cada ponto de entrada medido:
+#   - fintrack.Main: aplicação real (AppController), sessão roteirizada até
+#     concluir o primeiro comando do menu e sair
+#   - fintrack.benchmark.BenchmarkInicializacao: apenas a camada de serviço
+# Cada arquivo é treinado com o mesmo ponto de entrada que mede, e as
+# medições usam as mesmas opções de JIT, para que a diferença venha apenas
+# do arquivo.
+#
+# Uso: scripts/startup-cds.sh [execucoes]
+#
+# Depois de gerado, o modo de inicialização rápida é:
+#   java -XX:SharedArchiveFile=build/fintrack.jsa -XX:TieredStopAtLevel=1 \
+#        -cp build/fintrack.jar fintrack.Main
+set -euo pipefail
+
+RAIZ="$(cd "$(dirname "$0")/.." && pwd)"
+BUILD="$RAIZ/build"
+JAR="$BUILD/fintrack.jar"
+ARQUIVO_CDS="$BUILD/fintrack.jsa"
+ARQUIVO_CDS_SERVICO="$BUILD/fintrack-servico.jsa"
+EXECUCOES="${1:-10}"
+# Opções de JIT comuns às duas medições
+OPCOES_JIT="-XX:TieredStopAtLevel=1"
+# Sessão roteirizada: login, consulta de saldo (primeiro comando), ENTER, sair
+SESSAO=$'Cliente Script\ncliente@script.fintrack.com\n1\n\n7\n'
+
+if ! [[ "$EXECUCOES" =~ ^[1-9][0-9]*$ ]]; then
+    echo "❌ Número de execuções deve ser um inteiro maior que zero: $EXECUCOES" >&2
+    exit 1
+fi
+
+echo "🔨 Compilando..."
+rm -rf "$BUILD/classes"
+mkdir -p "$BUILD/classes"
+javac -encoding UTF-8 -d "$BUILD/classes" "$RAIZ"/*.java
+jar --create --file "$JAR" -C "$BUILD/classes" .
+
+# Execução de treino: as classes carregadas pelo ponto de entrada são gravadas no arquivo ao final
+treinar() {
+    local arquivo="$1"
+    local classe="$2"
+    echo "📦 Gerando arquivo AppCDS para $classe em $arquivo..."
+    printf '%s' "$SESSAO" | java -XX:ArchiveClassesAtExit="$arquivo" -cp "$JAR" "$classe" > /dev/null
+}
+
+medir() {
+    local descricao="$1"
+    local classe="$2"
+    shift 2
+    local total=0
+    for _ in $(seq "$EXECUCOES"); do
+        local inicio fim
+        inicio=$(date +%s%N)
+        printf '%s' "$SESSAO" | java "$@" -cp "$JAR" "$classe" > /dev/null
+        fim=$(date +%s%N)
+        total=$((total + (fim - inicio) / 1000000))
+    done
+    echo "⏱️  $descricao: média de $((total / EXECUCOES)) ms por execução ($EXECUCOES execuções)"
+}
+
+treinar "$ARQUIVO_CDS" fintrack.Main
+treinar "$ARQUIVO_CDS_SERVICO" fintrack.benchmark.BenchmarkInicializacao
+
+echo "🚀 fintrack.Main (até o primeiro comando do menu):"
+# shellcheck disable=SC2086
+medir "CDS padrão do JDK" fintrack.Main $OPCOES_JIT -Xshare:auto
+# shellcheck disable=SC2086
+medir "Com AppCDS" fintrack.Main $OPCOES_JIT -Xshare:auto -XX:SharedArchiveFile="$ARQUIVO_CDS"
+
+echo "⚙️  BenchmarkInicializacao (camada de serviço):"
+# shellcheck disable=SC2086
+medir "CDS padrão do JDK" fintrack.benchmark.BenchmarkInicializacao $OPCOES_JIT -Xshare:auto
+# shellcheck disable=SC2086
+medir "Com AppCDS" fintrack.benchmark.BenchmarkInicializacao $OPCOES_JIT -Xshare:auto \
+    -XX:SharedArchiveFile="$ARQUIVO_CDS_SERVICO"
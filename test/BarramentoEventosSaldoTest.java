@@ -0,0 +1,198 @@
+package fintrack.event;
+
+import fintrack.model.Moeda;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Testes do buffer circular do {@link BarramentoEventosSaldo}
+ * Executados via main (sem framework de testes):
+ *   javac -encoding UTF-8 -d build *.java test/*.java
+ *   java -cp build fintrack.event.BarramentoEventosSaldoTest
+ *
+ * @author Arthur Oliveira Silva
+ * @version 1.0
+ */
+public class BarramentoEventosSaldoTest {
+
+    private static final long TEMPO_LIMITE_SEGUNDOS = 10;
+
+    public static void main(String[] args) throws Exception {
+        executar("volta completa do buffer", BarramentoEventosSaldoTest::testarVoltaDoBuffer);
+        executar("ordem por produtor com vários produtores", BarramentoEventosSaldoTest::testarOrdemMultiplosProdutores);
+        executar("sequência reservada define a ordem de entrega", BarramentoEventosSaldoTest::testarSequenciaReservada);
+        executar("publicar após encerrar não bloqueia", BarramentoEventosSaldoTest::testarPublicarAposEncerrar);
+        executar("assinante morto por Error não bloqueia", BarramentoEventosSaldoTest::testarAssinanteMorto);
+        System.out.println("✅ Todos os testes do barramento passaram");
+    }
+
+    /**
+     * Publica muito mais eventos que a capacidade; o assinante deve receber todos, em ordem
+     */
+    static void testarVoltaDoBuffer() throws Exception {
+        int total = 10_000;
+        BarramentoEventosSaldo barramento = new BarramentoEventosSaldo(4);
+        List<Long> sequencias = new ArrayList<>();
+        List<Double> valores = new ArrayList<>();
+        CountDownLatch recebidos = new CountDownLatch(total);
+        barramento.registrar("coletor", (evento, sequencia, fimDoLote) -> {
+            sequencias.add(sequencia);
+            valores.add(evento.getValor());
+            recebidos.countDown();
+        });
+        barramento.iniciar();
+
+        for (int i = 0; i < total; i++) {
+            barramento.publicar(EventoSaldo.Tipo.CREDITO, "a@x.com", Moeda.BRL, i, i, "teste");
+        }
+        verificar(recebidos.await(TEMPO_LIMITE_SEGUNDOS, TimeUnit.SECONDS), "assinante não recebeu todos os eventos");
+        barramento.encerrar();
+
+        for (int i = 0; i < total; i++) {
+            verificar(sequencias.get(i) == i, "sequência fora de ordem na posição " + i);
+            verificar(valores.get(i) == i, "evento sobrescrito na posição " + i);
+        }
+        verificar(barramento.getEsperasPorBackpressure() > 0, "capacidade 4 deveria exigir backpressure");
+    }
+
+    /**
+     * Vários produtores publicando ao mesmo tempo: nada se perde e a ordem de cada produtor é mantida
+     */
+    static void testarOrdemMultiplosProdutores() throws Exception {
+        int produtores = 4;
+        int porProdutor = 20_000;
+        BarramentoEventosSaldo barramento = new BarramentoEventosSaldo(64);
+        double[] ultimoPorProdutor = new double[produtores];
+        java.util.Arrays.fill(ultimoPorProdutor, -1);
+        List<String> erros = new ArrayList<>();
+        CountDownLatch recebidos = new CountDownLatch(produtores * porProdutor);
+        barramento.registrar("ordem", (evento, sequencia, fimDoLote) -> {
+            int produtor = Integer.parseInt(evento.getContraparte());
+            if (evento.getValor() != ultimoPorProdutor[produtor] + 1 && erros.isEmpty()) {
+                erros.add("produtor " + produtor + ": esperado " + (ultimoPorProdutor[produtor] + 1)
+                          + ", recebido " + evento.getValor());
+            }
+            ultimoPorProdutor[produtor] = evento.getValor();
+            recebidos.countDown();
+        });
+        barramento.iniciar();
+
+        Thread[] threads = new Thread[produtores];
+        for (int p = 0; p < produtores; p++) {
+            String nomeProdutor = String.valueOf(p);
+            threads[p] = new Thread(() -> {
+                for (int i = 0; i < porProdutor; i++) {
+                    barramento.publicar(EventoSaldo.Tipo.DEBITO, "b@x.com", Moeda.BRL, i, 0, nomeProdutor);
+                }
+            });
+            threads[p].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        verificar(recebidos.await(TEMPO_LIMITE_SEGUNDOS, TimeUnit.SECONDS), "eventos perdidos com vários produtores");
+        barramento.encerrar();
+
+        verificar(erros.isEmpty(), erros.isEmpty() ? "" : erros.get(0));
+        for (int p = 0; p < produtores; p++) {
+            verificar(ultimoPorProdutor[p] == porProdutor - 1, "produtor " + p + " incompleto");
+        }
+    }
+
+    /**
+     * Eventos publicados fora de ordem são entregues na ordem em que as sequências foram reservadas
+     */
+    static void testarSequenciaReservada() throws Exception {
+        BarramentoEventosSaldo barramento = new BarramentoEventosSaldo(4);
+        List<Double> saldos = new ArrayList<>();
+        CountDownLatch recebidos = new CountDownLatch(2);
+        barramento.registrar("ordem", (evento, sequencia, fimDoLote) -> {
+            saldos.add(evento.getSaldoResultante());
+            recebidos.countDown();
+        });
+        barramento.iniciar();
+
+        long primeira = barramento.reservarSequencia();
+        long segunda = barramento.reservarSequencia();
+        barramento.publicar(segunda, EventoSaldo.Tipo.DEBITO, "e@x.com", Moeda.BRL, 1, 8, "teste");
+        barramento.publicar(primeira, EventoSaldo.Tipo.DEBITO, "e@x.com", Moeda.BRL, 1, 9, "teste");
+        verificar(recebidos.await(TEMPO_LIMITE_SEGUNDOS, TimeUnit.SECONDS), "assinante não recebeu os eventos");
+        barramento.encerrar();
+
+        verificar(saldos.equals(List.of(9.0, 8.0)), "ordem diferente da reserva: " + saldos);
+    }
+
+    /**
+     * Após encerrar, publicar além da capacidade não pode travar quem publica
+     */
+    static void testarPublicarAposEncerrar() throws Exception {
+        BarramentoEventosSaldo barramento = new BarramentoEventosSaldo(4);
+        barramento.registrar("parado", (evento, sequencia, fimDoLote) -> { });
+        barramento.iniciar();
+        barramento.encerrar();
+
+        verificarSemBloqueio(() -> {
+            for (int i = 0; i < 10; i++) {
+                barramento.publicar(EventoSaldo.Tipo.CREDITO, "c@x.com", Moeda.BRL, i, i, "teste");
+            }
+        }, "publicar após encerrar");
+
+        try {
+            barramento.iniciar();
+            verificar(false, "barramento encerrado não deveria reiniciar");
+        } catch (IllegalStateException esperado) {
+            // Reinício não é suportado
+        }
+    }
+
+    /**
+     * Um assinante cuja thread morre com Error não pode segurar o buffer
+     */
+    static void testarAssinanteMorto() throws Exception {
+        BarramentoEventosSaldo barramento = new BarramentoEventosSaldo(4);
+        CountDownLatch morreu = new CountDownLatch(1);
+        barramento.registrar("quebrado", (evento, sequencia, fimDoLote) -> {
+            morreu.countDown();
+            throw new AssertionError("falha simulada");
+        });
+        barramento.iniciar();
+
+        barramento.publicar(EventoSaldo.Tipo.CREDITO, "d@x.com", Moeda.BRL, 1, 1, "teste");
+        verificar(morreu.await(TEMPO_LIMITE_SEGUNDOS, TimeUnit.SECONDS), "assinante não recebeu o evento");
+
+        verificarSemBloqueio(() -> {
+            for (int i = 0; i < 100; i++) {
+                barramento.publicar(EventoSaldo.Tipo.CREDITO, "d@x.com", Moeda.BRL, i, i, "teste");
+            }
+        }, "publicar com assinante morto");
+        barramento.encerrar();
+    }
+
+    // ===== MÉTODOS PRIVADOS =====
+
+    private static void verificarSemBloqueio(Runnable acao, String descricao) throws InterruptedException {
+        Thread thread = new Thread(acao, "teste-" + descricao);
+        thread.setDaemon(true);
+        thread.start();
+        thread.join(TimeUnit.SECONDS.toMillis(TEMPO_LIMITE_SEGUNDOS));
+        verificar(!thread.isAlive(), descricao + " ficou bloqueado");
+    }
+
+    private static void verificar(boolean condicao, String mensagem) {
+        if (!condicao) {
+            throw new AssertionError(mensagem);
+        }
+    }
+
+    private static void executar(String nome, Teste teste) throws Exception {
+        teste.executar();
+        System.out.println("✔ " + nome);
+    }
+
+    @FunctionalInterface
+    private interface Teste {
+        void executar() throws Exception;
+    }
+}
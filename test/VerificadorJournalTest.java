@@ -0,0 +1,132 @@
+package fintrack.audit;
+
+import fintrack.model.Moeda;
+import fintrack.model.Usuario;
+import fintrack.service.UsuarioService;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Testes do {@link JournalAuditoria} com o {@link VerificadorJournal}
+ * Executados via main (sem framework de testes):
+ *   javac -encoding UTF-8 -d build *.java test/*.java
+ *   java -cp build fintrack.audit.VerificadorJournalTest
+ *
+ * @author Arthur Oliveira Silva
+ * @version 1.0
+ */
+public class VerificadorJournalTest {
+
+    public static void main(String[] args) throws Exception {
+        executar("sessão sem alterações fora do journal é íntegra", VerificadorJournalTest::testarSessaoIntegra);
+        executar("saldo alterado sem registro aparece na operação seguinte", VerificadorJournalTest::testarAlteracaoAntesDeOperacao);
+        executar("saldo alterado sem registro aparece no checkpoint", VerificadorJournalTest::testarAlteracaoAntesDeCheckpoint);
+        System.out.println("✅ Todos os testes do journal passaram");
+    }
+
+    /**
+     * Operações normais em reais e em outra moeda não geram divergências
+     */
+    static void testarSessaoIntegra() throws Exception {
+        Path arquivo = Files.createTempFile("journal", ".bin");
+        try {
+            UsuarioService servico;
+            long total;
+            try (JournalAuditoria journal = new JournalAuditoria(arquivo)) {
+                servico = novaSessao(journal);
+                servico.receberDinheiro(100, "Salário");
+                servico.realizarTransferencia(30, "Aluguel");
+                servico.receberDinheiro(10, Moeda.USD, "Reembolso");
+                servico.logout();
+                total = journal.getTotalRegistros();
+            }
+
+            VerificadorJournal.ResultadoVerificacao resultado = new VerificadorJournal(2).verificar(arquivo, total);
+            verificar(resultado.isIntegro(), "divergências inesperadas: " + resultado.getDivergencias());
+            Usuario conta = servico.buscarUsuarioPorEmail("ana@fintrack.com");
+            verificar(resultado.compararComContas(List.of(conta)).isEmpty(), "saldo derivado difere da conta");
+        } finally {
+            Files.deleteIfExists(arquivo);
+        }
+    }
+
+    /**
+     * setSaldo seguido de uma transferência: o débito grava um saldo resultante
+     * que não bate com o derivado, mesmo sem checkpoint posterior
+     */
+    static void testarAlteracaoAntesDeOperacao() throws Exception {
+        Path arquivo = Files.createTempFile("journal", ".bin");
+        try {
+            long total;
+            long sequenciaDebito;
+            try (JournalAuditoria journal = new JournalAuditoria(arquivo)) {
+                UsuarioService servico = novaSessao(journal);
+                servico.getUsuarioAtual().setSaldo(1_000_000);
+                sequenciaDebito = journal.getTotalRegistros();
+                servico.realizarTransferencia(10, "Destino");
+                servico.realizarTransferencia(5, "Destino");
+                total = journal.getTotalRegistros();
+            }
+
+            VerificadorJournal.ResultadoVerificacao resultado = new VerificadorJournal(2).verificar(arquivo, total);
+            verificar(resultado.getTotalDivergencias() == 1, "esperada uma divergência: " + resultado.getDivergencias());
+            VerificadorJournal.Divergencia divergencia = resultado.getDivergencias().get(0);
+            verificar(divergencia.getTipo() == VerificadorJournal.TipoDivergencia.SALDO_DIVERGENTE,
+                      "tipo inesperado: " + divergencia);
+            verificar(divergencia.getSequencia() == sequenciaDebito, "divergência fora do débito: " + divergencia);
+            verificar(resultado.getSaldoDerivado("ana@fintrack.com") == 999_985.0,
+                      "saldo derivado não continuou do saldo gravado: " + resultado.getSaldoDerivado("ana@fintrack.com"));
+        } finally {
+            Files.deleteIfExists(arquivo);
+        }
+    }
+
+    /**
+     * setSaldo seguido de logout: o checkpoint revela a alteração
+     */
+    static void testarAlteracaoAntesDeCheckpoint() throws Exception {
+        Path arquivo = Files.createTempFile("journal", ".bin");
+        try {
+            long total;
+            try (JournalAuditoria journal = new JournalAuditoria(arquivo)) {
+                UsuarioService servico = novaSessao(journal);
+                servico.getUsuarioAtual().setSaldo(5);
+                servico.logout();
+                total = journal.getTotalRegistros();
+            }
+
+            VerificadorJournal.ResultadoVerificacao resultado = new VerificadorJournal(2).verificar(arquivo, total);
+            verificar(resultado.getTotalDivergencias() == 1, "esperada uma divergência: " + resultado.getDivergencias());
+            verificar(resultado.getDivergencias().get(0).getTipo() == VerificadorJournal.TipoDivergencia.SALDO_DIVERGENTE,
+                      "tipo inesperado: " + resultado.getDivergencias());
+        } finally {
+            Files.deleteIfExists(arquivo);
+        }
+    }
+
+    // ===== MÉTODOS PRIVADOS =====
+
+    private static UsuarioService novaSessao(JournalAuditoria journal) {
+        UsuarioService servico = new UsuarioService();
+        servico.setJournalAuditoria(journal);
+        verificar(servico.loginOuCriarUsuario("Ana Silva", "ana@fintrack.com"), "login falhou");
+        return servico;
+    }
+
+    private static void verificar(boolean condicao, String mensagem) {
+        if (!condicao) {
+            throw new AssertionError(mensagem);
+        }
+    }
+
+    private static void executar(String nome, Teste teste) throws Exception {
+        teste.executar();
+        System.out.println("✔ " + nome);
+    }
+
+    @FunctionalInterface
+    private interface Teste {
+        void executar() throws Exception;
+    }
+}